@@ -1,12 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,8 +25,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PersistenceWorker;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +43,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
 
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +53,14 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private boolean isDataFileRead;
+    // The data file that the address book was read from, or was to be read from
+    private Path dataFilePath;
+    // The data file that was found but could not be read, if any
+    private Path unreadableDataFilePath;
+    // Set if the data file can be overwritten on exit
+    private boolean isDataFileSafeToSave;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,18 +71,79 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, userPrefs.getAddressBookFormat());
+        CommandJournal commandJournal =
+                new CommandJournal(CommandJournal.getJournalFilePath(userPrefs.getAddressBookFilePath()));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandJournal, new PersistenceWorker());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        initJournal(logicManager, commandJournal);
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file in {@code format}, kept at the address book file path in
+     * {@code userPrefs} or, for the binary format, next to it.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, AddressBookFormat format) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        return format == AddressBookFormat.BINARY
+                ? new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath))
+                : new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the address book in the data file in the other format than the one in {@code userPrefs}, if that
+     * file was saved after {@code storage}'s, as happens when the format has just been changed. The address book
+     * is then saved in the selected format once the app has started.
+     * Returns an empty {@code Optional} otherwise, or if that file cannot be read, so that {@code storage}'s
+     * file is read instead.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookToConvert(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        AddressBookFormat otherFormat = userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY
+                ? AddressBookFormat.JSON
+                : AddressBookFormat.BINARY;
+        AddressBookStorage otherStorage = initAddressBookStorage(userPrefs, otherFormat);
+        Path otherFilePath = otherStorage.getAddressBookFilePath();
+        if (!isModifiedLater(otherFilePath, storage.getAddressBookFilePath())) {
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        try {
+            addressBookOptional = otherStorage.readAddressBook();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read data file " + otherFilePath + " to convert it, reading "
+                    + storage.getAddressBookFilePath() + " instead " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+        if (addressBookOptional.isPresent()) {
+            logger.info("Converting data file " + otherFilePath + " to " + userPrefs.getAddressBookFormat()
+                    + " format at " + storage.getAddressBookFilePath());
+            dataFilePath = otherFilePath;
+        }
+        return addressBookOptional;
+    }
+
+    /**
+     * Returns true if {@code filePath} exists and was modified after {@code otherFilePath}, or if only
+     * {@code filePath} exists.
+     */
+    private static boolean isModifiedLater(Path filePath, Path otherFilePath) {
+        try {
+            return Files.exists(filePath) && (!Files.exists(otherFilePath)
+                    || Files.getLastModifiedTime(filePath).compareTo(Files.getLastModifiedTime(otherFilePath)) > 0);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -76,23 +152,69 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        dataFilePath = storage.getAddressBookFilePath();
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = readAddressBookToConvert(storage, userPrefs);
+            if (!addressBookOptional.isPresent()) {
+                addressBookOptional = storage.readAddressBook();
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isDataFileRead = addressBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            unreadableDataFilePath = dataFilePath;
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            unreadableDataFilePath = dataFilePath;
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Replays the command journal over the address book read from the data file, then saves it in full.
+     * If there was no data file, the address book the app starts with is saved instead, so that later commands have
+     * a file to apply to. If the data file could not be read, it is first moved aside along with the journal,
+     * whose commands apply to it, so that neither is overwritten. Should that fail, nothing is saved on exit.
+     */
+    private void initJournal(LogicManager logicManager, CommandJournal commandJournal) {
+        isDataFileSafeToSave = unreadableDataFilePath == null;
+        try {
+            if (isDataFileRead) {
+                logicManager.replayJournal(dataFilePath);
+                return;
+            }
+            if (unreadableDataFilePath != null) {
+                moveAside(unreadableDataFilePath);
+                moveAside(commandJournal.getFilePath());
+                isDataFileSafeToSave = true;
+            }
+            storage.compactJournal(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Problem while setting up the command journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Renames {@code file}, if it exists, to a backup file next to it that does not exist yet.
+     */
+    private static void moveAside(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Path backupFile = file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+        for (int i = 2; Files.exists(backupFile); i++) {
+            backupFile = file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION + i);
+        }
+        Files.move(file, backupFile);
+        logger.warning("Moved " + file + " to " + backupFile + " so that it is not overwritten");
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -179,5 +301,17 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            if (isDataFileSafeToSave) {
+                storage.compactJournal(model.getAddressBook());
+            } else {
+                logger.severe("Not saving data, so that the unreadable data file " + unreadableDataFilePath
+                        + " is not overwritten");
+            }
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data, the command journal will be replayed on the next start "
+                    + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum AddressBookFormat {
+    /** A json file that can be read and edited by hand. */
+    JSON,
+    /** A compact binary file that is smaller and faster to read and write. */
+    BINARY
+}
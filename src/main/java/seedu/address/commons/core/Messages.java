@@ -11,6 +11,7 @@ public class Messages {
     public static final String MESSAGE_INDEX_LIST_MISMATCH = "The index cannot be used for current list. ";
     public static final String MESSAGE_INVALID_TUTORIAL_DISPLAYED_INDEX = "The tutorial index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PAGE_LISTED_OVERVIEW = "%1$d persons listed on page %2$d!";
     public static final String MESSAGE_INVALID_TUTORIAL_WEEKS = "Invalid Week Number! Tutorial only has %s weeks";
     public static final String MESSAGE_TUTORIAL_NOT_FOUND = "There is no class with the given name in camNUS";
     public static final String MESSAGE_ASSESSMENT_NOT_FOUND = "An assessment with the given name "
@@ -0,0 +1,84 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents one page of a list of results, holding at most {@code limit} results.
+ * Pages are numbered from 1, and page {@code n} holds the results after the first {@code (n - 1) * limit}.
+ *
+ * Once a page of results is displayed, an {@code Index} into the displayed list refers to a result on that page.
+ */
+public class Page {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    public static final String MESSAGE_CONSTRAINTS = "Limit and page number should be non-zero unsigned integers.";
+
+    private final int limit;
+    private final int number;
+
+    /**
+     * Constructs the page {@code number} of results, with at most {@code limit} results on each page.
+     */
+    public Page(int limit, int number) {
+        checkArgument(limit > 0 && number > 0, MESSAGE_CONSTRAINTS);
+        this.limit = limit;
+        this.number = number;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the items in {@code items} on this page of those accepted by {@code predicate}, in order.
+     * Items are tested in order and testing stops once the page is full.
+     */
+    public <T> List<T> collect(Iterable<? extends T> items, Predicate<? super T> predicate) {
+        requireNonNull(items);
+        requireNonNull(predicate);
+        long toSkip = (long) limit * (number - 1);
+        List<T> results = new ArrayList<>();
+        for (T item : items) {
+            if (results.size() == limit) {
+                break;
+            }
+            if (!predicate.test(item)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                results.add(item);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Page // instanceof handles nulls
+                && limit == ((Page) other).limit
+                && number == ((Page) other).number); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * limit + number;
+    }
+
+    @Override
+    public String toString() {
+        return "page " + number + " (limit " + limit + ")";
+    }
+}
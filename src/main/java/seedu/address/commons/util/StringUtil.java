@@ -61,19 +61,9 @@ public class StringUtil {
         String preppedSentence = sentence;
         String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
 
-        int len = word.length();
-
         for (String preppedWords : wordsInPreppedSentence) {
-            int wordLength = preppedWords.length();
-            if (preppedWords.equalsIgnoreCase(word)) {
+            if (preppedWords.regionMatches(true, 0, preppedWord, 0, preppedWord.length())) {
                 return true;
-            } else if (wordLength >= len) {
-                String preppedCharToString = preppedWords.substring(0, len);
-                if (preppedCharToString.equalsIgnoreCase(word)) {
-                    return true;
-                }
-            } else {
-                return false;
             }
         }
         return false;
@@ -0,0 +1,95 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.Page;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindByPrefixCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Searches a copy of the person list while a {@code find} command with prefixes is still being typed.
+ * Prefixed keywords match from the start of a word (or anywhere in phone numbers and student IDs), so typing
+ * more characters onto the last keyword can only narrow the results. In that case the previous results are
+ * searched again instead of the whole list.
+ * Only the page given by {@code limit/} and {@code page/}, if any, of the matching persons is returned.
+ * Not thread-safe: a {@code LiveFind} should only be used by one thread at a time.
+ */
+public class LiveFind {
+
+    private final List<Person> persons;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private String lastCommandText;
+    private List<Person> lastMatches;
+
+    /**
+     * Constructs a {@code LiveFind} over {@code persons}, which must not change while it is in use.
+     */
+    public LiveFind(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the persons matching {@code commandText}, in list order, or an empty {@code Optional} if
+     * {@code commandText} is not a valid {@code find} command with prefixes.
+     */
+    public Optional<List<Person>> search(String commandText) {
+        requireNonNull(commandText);
+        Optional<FindByPrefixCommand> command = parse(commandText);
+        if (command.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Predicate<Person> predicate = command.get().getAnyFieldPredicate();
+        List<Person> candidates = isNarrowing(commandText) ? lastMatches : persons;
+        List<Person> matches = new ArrayList<>();
+        for (Person person : candidates) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        lastCommandText = commandText;
+        lastMatches = matches;
+        Page page = command.get().getPage();
+        return Optional.of(page == null ? matches : page.collect(matches, person -> true));
+    }
+
+    private Optional<FindByPrefixCommand> parse(String commandText) {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            return command instanceof FindByPrefixCommand
+                    ? Optional.of((FindByPrefixCommand) command)
+                    : Optional.empty();
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code commandText} only adds characters to the last keyword of the previous search,
+     * so that it matches a subset of the previous results.
+     */
+    private boolean isNarrowing(String commandText) {
+        if (lastCommandText == null || !commandText.startsWith(lastCommandText)
+                || !endsInKeyword(lastCommandText)) {
+            return false;
+        }
+        String added = commandText.substring(lastCommandText.length());
+        return added.chars().noneMatch(c -> Character.isWhitespace(c) || c == '/');
+    }
+
+    private static boolean endsInKeyword(String commandText) {
+        char last = commandText.charAt(commandText.length() - 1);
+        return !Character.isWhitespace(last) && last != '/';
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -73,4 +74,10 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Passes a message to {@code failureHandler} whenever data that is saved in the background cannot be saved.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
+
 }
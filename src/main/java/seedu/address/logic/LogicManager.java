@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -51,7 +55,7 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveCommand(commandText, command.isMutating(), model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -59,6 +63,29 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Executes the commands in the command journal again, in order, to bring the model up to date with the
+     * commands executed since the address book was last saved in full. The address book is then saved in full,
+     * and every person is shown again, as after a fresh start.
+     * Commands that can no longer be executed are logged and skipped.
+     *
+     * @param addressBookFilePath the data file that the model was read from.
+     * @throws IOException if the journal cannot be read or the address book cannot be saved.
+     */
+    public void replayJournal(Path addressBookFilePath) throws IOException {
+        List<String> commandTexts = storage.readJournal(addressBookFilePath);
+        logger.info("Replaying " + commandTexts.size() + " commands from the command journal");
+        for (String commandText : commandTexts) {
+            try {
+                addressBookParser.parseCommand(commandText).execute(model);
+            } catch (CommandException | ParseException e) {
+                logger.warning("Could not replay command [" + commandText + "]: " + e.getMessage());
+            }
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        storage.compactJournal(model.getAddressBook());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -119,4 +146,9 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        storage.setFailureHandler(ioe -> failureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
 }
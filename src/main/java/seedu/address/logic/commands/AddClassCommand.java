@@ -52,7 +52,6 @@ public class AddClassCommand extends Command {
 
         toAdd.setStudentsList(model.getAllStudentsList());
         toAdd.setAssessmentResultsList(model.getAssessmentList());
-        toAdd.generateAttendance();
 
         if (model.hasTutorial(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_CLASS);
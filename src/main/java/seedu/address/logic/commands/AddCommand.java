@@ -68,9 +68,10 @@ public class AddCommand extends Command {
         }
 
         if (toAdd.hasStudentTag()) {
-            toAdd.removeTag("student");
-            model.addPerson(toAdd);
-            return new CommandResult(String.format(MESSAGE_SUCCESS + "\n" + MESSAGE_CANNOT_ADD_STUDENT_TAG, toAdd));
+            Person personToAdd = toAdd.withoutTag("student");
+            model.addPerson(personToAdd);
+            return new CommandResult(String.format(MESSAGE_SUCCESS + "\n" + MESSAGE_CANNOT_ADD_STUDENT_TAG,
+                    personToAdd));
         }
 
         model.addPerson(toAdd);
@@ -5,11 +5,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_TUTORIAL_NOT_FOUND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import java.util.Set;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
@@ -20,7 +18,6 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tutorial.Tutorial;
 import seedu.address.model.tutorial.TutorialName;
 
 
@@ -86,13 +83,9 @@ public class AddStudentCommand extends Command {
         Phone phone = personMatch.getPhone();
         Email email = personMatch.getEmail();
         Address address = personMatch.getAddress();
-        personMatch.addTag("Student");
-        Set<Tag> tags = personMatch.getTags();
+        Set<Tag> tags = personMatch.withTag("Student").getTags();
 
         Student toAdd = new Student(toAddName, phone, email, address, tags, toAddStudentId, toAddTutorialName);
-        Tutorial tutorial = model.getTutorialWithName(toAddTutorialName);
-        tutorial.setStudentsList(new FilteredList<Person>(model.getAddressBook().getPersonList(),
-                PREDICATE_SHOW_ALL_STUDENTS));
         model.addStudent(toAdd);
 
         return CommandResult.createStudentCommandResult(String.format(MESSAGE_ADD_STUDENT_SUCCESS, toAdd));
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the data in the address book, and not only which items
+     * are displayed.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -127,7 +127,7 @@ public class EditCommand extends Command {
         }
 
         if (!editStudentDescriptor.hasStudentTag()) {
-            editedStudent.addTag("student");
+            editedStudent = editedStudent.withTag("student");
         }
 
         model.setPerson(studentToEdit, editedStudent);
@@ -162,7 +162,7 @@ public class EditCommand extends Command {
         }
 
         if (editPersonDescriptor.hasStudentTag()) {
-            editedPerson.removeTag("student");
+            editedPerson = editedPerson.withoutTag("student");
         }
 
         model.setPerson(personToEdit, editedPerson);
@@ -312,7 +312,7 @@ public class EditCommand extends Command {
          */
         public boolean hasStudentTag() {
             if (tags != null) {
-                return (tags.contains(new Tag("student")));
+                return (tags.contains(Tag.of("student")));
             }
             return false;
         }
@@ -17,4 +17,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, DisplayType.PERSON);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
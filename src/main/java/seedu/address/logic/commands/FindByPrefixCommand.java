@@ -2,17 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Page;
 import seedu.address.model.DisplayType;
 import seedu.address.model.Model;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.AnyFieldMatchesPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.LookedUpPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonTokenIndex;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.StudentIdContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
@@ -52,7 +56,23 @@ public class FindByPrefixCommand extends FindCommand {
                                TagContainsKeywordsPredicate predicateTags,
                                StudentIdContainsKeywordsPredicate predicateStudentId,
                                TutorialContainsKeywordsPredicate predicateTutorialName) {
-        super();
+        this(predicateName, predicatePhone, predicateEmail, predicateAddress, predicateTags, predicateStudentId,
+                predicateTutorialName, null);
+    }
+
+    /**
+     * Finds and lists only {@code page} of the persons in address book whose attributes contain any of the
+     * argument keywords, or all of them if {@code page} is null.
+     */
+    public FindByPrefixCommand(NameContainsKeywordsPredicate predicateName,
+                               PhoneContainsKeywordsPredicate predicatePhone,
+                               EmailContainsKeywordsPredicate predicateEmail,
+                               AddressContainsKeywordsPredicate predicateAddress,
+                               TagContainsKeywordsPredicate predicateTags,
+                               StudentIdContainsKeywordsPredicate predicateStudentId,
+                               TutorialContainsKeywordsPredicate predicateTutorialName,
+                               Page page) {
+        super(page);
         this.predicateName = predicateName;
         this.predicatePhone = predicatePhone;
         this.predicateEmail = predicateEmail;
@@ -65,39 +85,19 @@ public class FindByPrefixCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> all = new ArrayList<>();
-
-        // find all with matching name
-        model.updateFilteredPersonList(predicateName);
-        all.addAll(model.getFilteredPersonList());
 
-        // find all with matching phone
-        model.updateFilteredPersonList(predicatePhone);
-        all.addAll(model.getFilteredPersonList());
-
-        // find all with matching email
-        model.updateFilteredPersonList(predicateEmail);
-        all.addAll(model.getFilteredPersonList());
-
-        // find all with matching address
-        model.updateFilteredPersonList(predicateAddress);
-        all.addAll(model.getFilteredPersonList());
-
-        // find all with matching tag in tags
-        model.updateFilteredPersonList(predicateTags);
-        all.addAll(model.getFilteredPersonList());
-
-        // find all with matching studentId
-        model.updateFilteredStudentList(predicateStudentId);
-        all.addAll(model.getFilteredPersonList());
-
-        // find all with matching tutorialName
-        model.updateFilteredPersonList(predicateTutorialName);
-        all.addAll(model.getFilteredPersonList());
-
-        // filter out duplicate contacts
-        List<Person> allNoDupes = new ArrayList<>(new LinkedHashSet<>(all));
-        model.setFilteredPersonsMultiPredList(allNoDupes);
+        // look up each field's keywords in the word index, then keep the persons matching any field in one pass
+        PersonTokenIndex index = model.getAddressBook().getPersonTokenIndex();
+        List<LookedUpPredicate> lookups = List.of(predicateName.withIndex(index), predicatePhone.withIndex(index),
+                predicateEmail.withIndex(index), predicateAddress.withIndex(index), predicateTags.withIndex(index),
+                predicateStudentId.withIndex(index), predicateTutorialName.withIndex(index));
+        AnyFieldMatchesPredicate matches = new AnyFieldMatchesPredicate(lookups);
+        if (getPage() != null) {
+            return listPage(model, matches);
+        }
+        model.updateFilteredPersonList(matches);
+        lookups.forEach(LookedUpPredicate::release);
+        model.setFilteredPersonsMultiPredList(model.getFilteredPersonList());
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
@@ -105,6 +105,15 @@ public class FindByPrefixCommand extends FindCommand {
 
     }
 
+    /**
+     * Returns a predicate that tests each person against the keywords of every field directly, without
+     * looking them up in the address book's indexes, so it can be run over a copy of the person list.
+     */
+    public Predicate<Person> getAnyFieldPredicate() {
+        return new AnyFieldMatchesPredicate(List.of(predicateName, predicatePhone, predicateEmail, predicateAddress,
+                predicateTags, predicateStudentId, predicateTutorialName));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -114,7 +123,8 @@ public class FindByPrefixCommand extends FindCommand {
                 && predicateEmail.equals(((FindByPrefixCommand) other).predicateEmail)
                 && predicateAddress.equals(((FindByPrefixCommand) other).predicateAddress)
                 && predicateTutorialName.equals(((FindByPrefixCommand) other).predicateTutorialName)
-                && predicateStudentId.equals(((FindByPrefixCommand) other).predicateStudentId));
+                && predicateStudentId.equals(((FindByPrefixCommand) other).predicateStudentId)
+                && Objects.equals(getPage(), ((FindByPrefixCommand) other).getPage()));
     }
 
 
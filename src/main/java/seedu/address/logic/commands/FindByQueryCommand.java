@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Page;
+import seedu.address.logic.parser.PersonQuery;
+import seedu.address.model.DisplayType;
+import seedu.address.model.Model;
+import seedu.address.model.person.LookedUpPredicate;
+
+/**
+ * Finds and lists all persons in address book who match a query of field conditions combined with
+ * {@code AND}, {@code OR} and {@code NOT}.
+ * Keyword matching is case insensitive.
+ */
+public class FindByQueryCommand extends FindCommand {
+
+    private final PersonQuery query;
+
+    public FindByQueryCommand(PersonQuery query) {
+        this(query, null);
+    }
+
+    /**
+     * Creates a FindByQueryCommand that lists only {@code page} of the persons found, or all of them if
+     * {@code page} is null.
+     */
+    public FindByQueryCommand(PersonQuery query, Page page) {
+        super(page);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        LookedUpPredicate matches = new LookedUpPredicate(query.compile(model.getAddressBook()).evaluate(), query);
+        if (getPage() != null) {
+            return listPage(model, matches);
+        }
+        model.updateFilteredPersonList(matches);
+        matches.release();
+        model.setFilteredPersonsMultiPredList(model.getFilteredPersonList());
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                        model.getFilteredPersonsMultiPredList().size()), false, false, DisplayType.FINDBYPREFIX);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindByQueryCommand // instanceof handles nulls
+                && query.equals(((FindByQueryCommand) other).query)
+                && Objects.equals(getPage(), ((FindByQueryCommand) other).getPage())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, getPage());
+    }
+}
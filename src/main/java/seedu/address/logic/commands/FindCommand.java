@@ -1,11 +1,20 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Page;
 import seedu.address.model.DisplayType;
 import seedu.address.model.Model;
+import seedu.address.model.person.LookedUpPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -15,40 +24,94 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_MARKER = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Start the keywords with " + FUZZY_MARKER + " to also match names and NUSNET IDs with a few typing "
+            + "mistakes.\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + "alcie\n"
+            + "Combine prefixed conditions with AND, OR, NOT and brackets to find persons matching all of them.\n"
+            + "Example: " + COMMAND_WORD + " tn/T01 AND t/probation AND NOT e/alice\n"
+            + "End any of these with " + PREFIX_LIMIT + "LIMIT and " + PREFIX_PAGE + "PAGE to list only a page "
+            + "of the persons found.\n"
+            + "Example: " + COMMAND_WORD + " n/a " + PREFIX_LIMIT + "50 " + PREFIX_PAGE + "2";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Page page;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, null);
+    }
+
+    /**
+     * Creates a FindCommand that lists only {@code page} of the persons found, or all of them if {@code page}
+     * is null.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, Page page) {
         this.predicate = predicate;
+        this.page = page;
     }
 
     public FindCommand() {
-        this.predicate = null;
+        this(null, null);
+    }
+
+    protected FindCommand(Page page) {
+        this(null, page);
     }
 
     @Override
     public CommandResult execute(Model model) {
 
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        LookedUpPredicate matches = predicate.withIndex(model.getAddressBook().getPersonTokenIndex());
+        if (page != null) {
+            return listPage(model, matches);
+        }
+        model.updateFilteredPersonList(matches);
+        matches.release();
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 false, false, DisplayType.FIND);
 
     }
 
+    /**
+     * Lists only the persons on this command's page of those accepted by {@code matches}, in list order.
+     * Persons are checked in order, and checking stops once the page is full.
+     */
+    protected CommandResult listPage(Model model, Predicate<Person> matches) {
+        List<Person> persons = page.collect(model.getAddressBook().getPersonList(), matches);
+        model.setFilteredPersonsMultiPredList(persons);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PAGE_LISTED_OVERVIEW, persons.size(), page.getNumber()),
+                false, false, DisplayType.FINDBYPREFIX);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && Objects.equals(page, ((FindCommand) other).page)); // state check
     }
 
     public NameContainsKeywordsPredicate getPredicate() {
         return predicate;
     }
+
+    /**
+     * Returns the page of persons to list, or null if every person found is listed.
+     */
+    public Page getPage() {
+        return page;
+    }
 }
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Page;
+import seedu.address.model.DisplayType;
+import seedu.address.model.Model;
+import seedu.address.model.person.LookedUpPredicate;
+import seedu.address.model.person.NameOrStudentIdNearKeywordsPredicate;
+
+/**
+ * Finds and lists all persons in address book whose name or student ID is close to any of the argument keywords,
+ * allowing for a few typing mistakes.
+ * Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends FindCommand {
+
+    private final NameOrStudentIdNearKeywordsPredicate predicate;
+
+    public FuzzyFindCommand(NameOrStudentIdNearKeywordsPredicate predicate) {
+        this(predicate, null);
+    }
+
+    /**
+     * Creates a FuzzyFindCommand that lists only {@code page} of the persons found, or all of them if
+     * {@code page} is null.
+     */
+    public FuzzyFindCommand(NameOrStudentIdNearKeywordsPredicate predicate, Page page) {
+        super(page);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LookedUpPredicate matches = predicate.withIndex(model.getAddressBook().getPersonTokenIndex());
+        if (getPage() != null) {
+            return listPage(model, matches);
+        }
+        model.updateFilteredPersonList(matches);
+        matches.release();
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                false, false, DisplayType.FIND);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && predicate.equals(((FuzzyFindCommand) other).predicate)
+                && Objects.equals(getPage(), ((FuzzyFindCommand) other).getPage())); // state check
+    }
+}
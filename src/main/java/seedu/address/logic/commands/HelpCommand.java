@@ -29,4 +29,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false, DisplayType.PERSON, commandWordInquiry);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
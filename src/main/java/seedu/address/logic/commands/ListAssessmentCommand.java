@@ -20,4 +20,9 @@ public class ListAssessmentCommand extends Command {
         model.updateFilteredAssessmentList(PREDICATE_SHOW_ALL_ASSESSMENTS);
         return CommandResult.createAssessmentCommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
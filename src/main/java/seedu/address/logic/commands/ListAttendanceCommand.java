@@ -96,6 +96,11 @@ public class ListAttendanceCommand extends Command {
         return commandResult;
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (studentId == null) {
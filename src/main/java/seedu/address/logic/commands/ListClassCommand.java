@@ -46,6 +46,11 @@ public class ListClassCommand extends Command {
         return CommandResult.createClassCommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -53,6 +53,11 @@ public class ListScoreCommand extends Command {
                 String.format(MESSAGE_SUCCESS, tutName, assessmentName, fullMark));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
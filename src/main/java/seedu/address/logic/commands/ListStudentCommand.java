@@ -2,17 +2,23 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_TUTORIAL_NOT_FOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.Page;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DisplayType;
 import seedu.address.model.Displayable;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentHasTutorialNamePredicate;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.model.tutorial.TutorialName;
@@ -35,10 +41,14 @@ public class ListStudentCommand extends Command {
             + "number used in the displayed class list, or by tutorial name.\n"
             + "Parameters: [INDEX] (must be a positive integer)\n"
             + "[" + PREFIX_TUTORIALNAME + "TUTORIAL NAME] \n"
+            + "[" + PREFIX_LIMIT + "LIMIT] [" + PREFIX_PAGE + "PAGE] to list only a page of the students\n"
             + "Example: " + COMMAND_WORD + " 1";
 
+    public static final String MESSAGE_PAGE = "\nPage %1$d: %2$d students listed";
+
     private final Index targetIndex;
     private final TutorialName tutorialName;
+    private final Page page;
 
     /**
      * Constructor for a ListStudentCommand.
@@ -46,16 +56,26 @@ public class ListStudentCommand extends Command {
      * @param tutorialName The name of the class.
      */
     public ListStudentCommand(Index targetIndex, TutorialName tutorialName) {
+        this(targetIndex, tutorialName, null);
+    }
+
+    /**
+     * Constructor for a ListStudentCommand that lists only a page of the students.
+     * @param targetIndex The index of the class in the list.
+     * @param tutorialName The name of the class.
+     * @param page The page of students to list, or null to list all of them.
+     */
+    public ListStudentCommand(Index targetIndex, TutorialName tutorialName, Page page) {
         this.targetIndex = targetIndex;
         this.tutorialName = tutorialName;
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (targetIndex == null && tutorialName == null) {
-            model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-            return CommandResult.createStudentCommandResult(MESSAGE_SUCCESS);
+            return listStudents(model, PREDICATE_SHOW_ALL_STUDENTS, MESSAGE_SUCCESS);
         }
         if (targetIndex == null) {
             return listByTutorialName(model);
@@ -75,8 +95,8 @@ public class ListStudentCommand extends Command {
         if (tutorialToList == null) {
             throw new CommandException(MESSAGE_TUTORIAL_NOT_FOUND);
         } else {
-            model.updateFilteredStudentList(new StudentHasTutorialNamePredicate(tutorialToList.getTutorialName()));
-            return CommandResult.createStudentCommandResult(String.format(MESSAGE_SUCCESS_CLASS, tutorialToList));
+            return listStudents(model, new StudentHasTutorialNamePredicate(tutorialToList.getTutorialName()),
+                    String.format(MESSAGE_SUCCESS_CLASS, tutorialToList));
         }
     }
 
@@ -90,22 +110,45 @@ public class ListStudentCommand extends Command {
         Displayable item = lastShownList.get(targetIndex.getZeroBased());
         if (item instanceof Tutorial) {
             Tutorial tutorialToList = (Tutorial) item;
-            model.updateFilteredStudentList(new StudentHasTutorialNamePredicate(tutorialToList.getTutorialName()));
-            return CommandResult.createStudentCommandResult(String.format(MESSAGE_SUCCESS_CLASS, tutorialToList));
+            return listStudents(model, new StudentHasTutorialNamePredicate(tutorialToList.getTutorialName()),
+                    String.format(MESSAGE_SUCCESS_CLASS, tutorialToList));
         }
         throw new CommandException(Messages.MESSAGE_INDEX_LIST_MISMATCH + MESSAGE_INDEX_USAGE);
     }
 
+    /**
+     * Lists the students accepted by {@code predicate}, or only those on this command's page of them.
+     * Students are checked in order, and checking stops once the page is full.
+     */
+    private CommandResult listStudents(Model model, Predicate<Person> predicate, String message) {
+        if (page == null) {
+            model.updateFilteredStudentList(predicate);
+            return CommandResult.createStudentCommandResult(message);
+        }
+
+        List<Person> students = page.collect(model.getAllStudentsList(), predicate);
+        model.setFilteredPersonsMultiPredList(students);
+        return new CommandResult(message + String.format(MESSAGE_PAGE, page.getNumber(), students.size()),
+                false, false, DisplayType.FINDBYPREFIX);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (tutorialName != null) {
             return other == this // short circuit if same object
                     || (other instanceof ListStudentCommand // instanceof handles nulls
-                    && tutorialName.equals(((ListStudentCommand) other).tutorialName));
+                    && tutorialName.equals(((ListStudentCommand) other).tutorialName)
+                    && Objects.equals(page, ((ListStudentCommand) other).page));
         } else {
             return other == this // short circuit if same object
                     || (other instanceof ListStudentCommand // instanceof handles nulls
-                    && (Objects.equals(targetIndex, ((ListStudentCommand) other).targetIndex))); // state check
+                    && (Objects.equals(targetIndex, ((ListStudentCommand) other).targetIndex))
+                    && Objects.equals(page, ((ListStudentCommand) other).page)); // state check
         }
     }
 }
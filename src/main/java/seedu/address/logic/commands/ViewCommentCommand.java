@@ -48,6 +48,11 @@ public class ViewCommentCommand extends Command {
         return CommandResult.createCommentCommandResult(String.format(MESSAGE_SUCCESS, student.getName(), comment));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -23,5 +23,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_SCORE = new Prefix("s/");
     public static final Prefix PREFIX_WEEK = new Prefix("wk/");
     public static final Prefix PREFIX_MESSAGE = new Prefix("msg/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_PAGE = new Prefix("page/");
 
 }
@@ -3,7 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -11,12 +13,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
 
 import java.util.Arrays;
 
+import seedu.address.commons.core.index.Page;
 import seedu.address.logic.commands.FindByPrefixCommand;
+import seedu.address.logic.commands.FindByQueryCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameOrStudentIdNearKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.StudentIdContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
@@ -32,9 +38,16 @@ public class FindCommandParser implements Parser<FindCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * The {@code limit/} and {@code page/} of persons to list, if any, must come after the keywords.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap pageMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT, PREFIX_PAGE);
+        Page page = ParserUtil.parsePage(pageMultimap);
+        if (page != null) {
+            args = " " + pageMultimap.getPreamble();
+        }
+
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
                         PREFIX_TAG, PREFIX_STUDENTID, PREFIX_TUTORIALNAME);
@@ -76,6 +89,10 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (QueryParser.isQuery(trimmedArgs)) {
+            return new FindByQueryCommand(new QueryParser().parse(trimmedArgs), page);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         if (isPrefixPresent) {
@@ -93,10 +110,19 @@ public class FindCommandParser implements Parser<FindCommand> {
                     new AddressContainsKeywordsPredicate(Arrays.asList(addressByPrefixKeywords)),
                     new TagContainsKeywordsPredicate(Arrays.asList(tagByPrefixKeywords)),
                     new StudentIdContainsKeywordsPredicate(Arrays.asList(studentIdByPrefixKeywords)),
-                    new TutorialContainsKeywordsPredicate(Arrays.asList(tutorialNameByPrefixKeywords))
+                    new TutorialContainsKeywordsPredicate(Arrays.asList(tutorialNameByPrefixKeywords)),
+                    page
             );
+        } else if (trimmedArgs.startsWith(FindCommand.FUZZY_MARKER)) {
+            String fuzzyArgs = trimmedArgs.substring(FindCommand.FUZZY_MARKER.length()).trim();
+            if (fuzzyArgs.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FuzzyFindCommand(
+                    new NameOrStudentIdNearKeywordsPredicate(Arrays.asList(fuzzyArgs.split("\\s+"))), page);
         } else {
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), false));
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), false), page);
         }
     }
 
@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.Page;
 import seedu.address.logic.commands.ListStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tutorial.TutorialName;
@@ -18,21 +21,26 @@ public class ListStudentCommandParser implements Parser<ListStudentCommand> {
     public ListStudentCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_TUTORIALNAME);
+                ArgumentTokenizer.tokenize(args, PREFIX_TUTORIALNAME, PREFIX_LIMIT, PREFIX_PAGE);
 
         Index index;
+        Page page = ParserUtil.parsePage(argMultimap);
 
         if (argMultimap.getValue(PREFIX_TUTORIALNAME).isPresent() && argMultimap.getPreamble().isEmpty()) {
             TutorialName tutorialName = ParserUtil.parseTutorialName(argMultimap.getValue(PREFIX_TUTORIALNAME).get());
-            return new ListStudentCommand(null, tutorialName);
+            return new ListStudentCommand(null, tutorialName, page);
+        }
+        String trimmedArgs = argMultimap.getPreamble();
+        if (argMultimap.getValue(PREFIX_TUTORIALNAME).isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListStudentCommand.MESSAGE_USAGE));
         }
-        String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
-            return new ListStudentCommand(null, null);
+            return new ListStudentCommand(null, null, page);
         }
         try {
-            index = ParserUtil.parseIndex(args);
-            return new ListStudentCommand(index, null);
+            index = ParserUtil.parseIndex(trimmedArgs);
+            return new ListStudentCommand(index, null, page);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListStudentCommand.MESSAGE_USAGE), pe);
@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
 
@@ -11,6 +13,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.Page;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -50,6 +53,26 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the {@code limit/} and {@code page/} values in {@code argMultimap} into a {@code Page}, or returns null
+     * if neither is given. Without a limit, pages hold {@code Page.DEFAULT_LIMIT} results, and without a page
+     * number the first page is returned.
+     *
+     * @throws ParseException if the given limit or page number is not a non-zero unsigned integer.
+     */
+    public static Page parsePage(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        if (argMultimap.getValue(PREFIX_LIMIT).isEmpty() && argMultimap.getValue(PREFIX_PAGE).isEmpty()) {
+            return null;
+        }
+        String limit = argMultimap.getValue(PREFIX_LIMIT).orElse(String.valueOf(Page.DEFAULT_LIMIT)).trim();
+        String number = argMultimap.getValue(PREFIX_PAGE).orElse("1").trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(limit) || !StringUtil.isNonZeroUnsignedInteger(number)) {
+            throw new ParseException(Page.MESSAGE_CONSTRAINTS);
+        }
+        return new Page(Integer.parseInt(limit), Integer.parseInt(number));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -62,7 +85,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -122,7 +145,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -146,7 +169,7 @@ public class ParserUtil {
         if (!AssessmentName.isValidAssessmentName(trimmedName)) {
             throw new ParseException(AssessmentName.MESSAGE_CONSTRAINTS);
         }
-        return new AssessmentName(trimmedName);
+        return AssessmentName.of(trimmedName);
     }
 
     /**
@@ -184,7 +207,7 @@ public class ParserUtil {
         if (!TutorialName.isValidTutorialName(trimmedTutorialName)) {
             throw new ParseException(TutorialName.MESSAGE_CONSTRAINTS);
         }
-        return new TutorialName(trimmedTutorialName);
+        return TutorialName.of(trimmedTutorialName);
     }
 
     /**
@@ -199,7 +222,7 @@ public class ParserUtil {
         if (!Venue.isValidVenue(trimmedVenue)) {
             throw new ParseException(Venue.MESSAGE_CONSTRAINTS);
         }
-        return new Venue(trimmedVenue);
+        return Venue.of(trimmedVenue);
     }
 
     /**
@@ -214,7 +237,7 @@ public class ParserUtil {
         if (!Day.isValidDay(trimmedDay)) {
             throw new ParseException(Day.MESSAGE_CONSTRAINTS);
         }
-        return new Day(trimmedDay);
+        return Day.of(trimmedDay);
     }
 
     /**
@@ -244,7 +267,7 @@ public class ParserUtil {
         if (!NusNetId.isValidId(trimmedId)) {
             throw new ParseException(NusNetId.MESSAGE_CONSTRAINTS);
         }
-        return new NusNetId(trimmedId);
+        return NusNetId.of(trimmedId);
     }
 
     /**
@@ -0,0 +1,430 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBitmapIndex;
+import seedu.address.model.person.PersonTokenIndex.Field;
+import seedu.address.model.person.SearchKeys;
+
+/**
+ * A parsed {@code find} query, made of field conditions combined with {@code AND}, {@code OR} and {@code NOT}.
+ *
+ * A query is run by compiling it into a {@code Plan}, in which every condition has already been looked up in
+ * the address book's {@code PersonTokenIndex}, or for tags and tutorials, its {@code PersonBitmapIndex}.
+ * Tag and tutorial conditions under the same {@code AND} or {@code OR} are combined bitwise. The plan of an
+ * {@code AND} then starts from its most selective operand and only tests the remaining operands against the
+ * persons still matching, stopping as soon as none are left, so that no operand causes a scan of the whole
+ * address book.
+ *
+ * A query can also test a single person directly on the person's fields, without any index, such as a person
+ * added to the address book after the query was compiled.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /**
+     * Returns a plan that finds the persons in {@code addressBook} that match this query.
+     */
+    public abstract Plan compile(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns true if {@code person} matches this query, tested on the person's fields.
+     */
+    @Override
+    public abstract boolean test(Person person);
+
+    /**
+     * A query whose conditions have been looked up, ready to be evaluated.
+     */
+    public interface Plan {
+
+        /**
+         * Returns an upper bound on the number of persons matched by this plan.
+         */
+        int getEstimatedSize();
+
+        /**
+         * Returns true if {@code person} is matched by this plan.
+         */
+        boolean matches(Person person);
+
+        /**
+         * Returns a new set of the persons matched by this plan, compared by identity.
+         */
+        Set<Person> evaluate();
+    }
+
+    /**
+     * Matches persons with a word in {@code field} that starts with any of the keywords, or for phone numbers
+     * and student IDs, that contains any of the keywords.
+     */
+    public static class Term extends PersonQuery {
+        private final Field field;
+        private final List<String> keywords;
+        private final String[] foldedKeywords;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Term(Field field, List<String> keywords) {
+            requireNonNull(field);
+            requireNonNull(keywords);
+            this.field = field;
+            this.keywords = List.copyOf(keywords);
+            this.foldedKeywords = SearchKeys.foldKeywords(this.keywords);
+        }
+
+        @Override
+        public Plan compile(ReadOnlyAddressBook addressBook) {
+            PersonBitmapIndex bitmapIndex = addressBook.getPersonBitmapIndex();
+            switch (field) {
+            case TAG:
+                return new BitmapPlan(bitmapIndex, bitmapIndex.getPersonsWithAnyTagPrefix(keywords));
+            case TUTORIAL_NAME:
+                return new BitmapPlan(bitmapIndex, bitmapIndex.getStudentsInAnyTutorialPrefix(keywords));
+            case PHONE:
+            case STUDENT_ID:
+                return new SetPlan(addressBook.getPersonTokenIndex().getPersonsWithAnyWordContaining(field, keywords));
+            default:
+                return new SetPlan(addressBook.getPersonTokenIndex().getPersonsWithAnyWordPrefix(field, keywords));
+            }
+        }
+
+        @Override
+        public boolean test(Person person) {
+            switch (field) {
+            case PHONE:
+            case STUDENT_ID:
+                return person.getSearchKeys().hasAnyWordContaining(field, foldedKeywords);
+            default:
+                return person.getSearchKeys().hasAnyWordWithPrefix(field, foldedKeywords);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Term // instanceof handles nulls
+                    && field == ((Term) other).field
+                    && keywords.equals(((Term) other).keywords)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, keywords);
+        }
+    }
+
+    /**
+     * Matches persons matched by every operand.
+     */
+    public static class And extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        public And(List<PersonQuery> operands) {
+            this.operands = List.copyOf(operands);
+        }
+
+        @Override
+        public Plan compile(ReadOnlyAddressBook addressBook) {
+            List<Person> persons = addressBook.getPersonList();
+            List<Plan> included = new ArrayList<>();
+            List<Plan> excluded = new ArrayList<>();
+            for (PersonQuery operand : operands) {
+                if (operand instanceof Not) {
+                    excluded.add(((Not) operand).operand.compile(addressBook));
+                } else {
+                    included.add(operand.compile(addressBook));
+                }
+            }
+
+            // intersect the bitmaps of tag and tutorial conditions, and subtract those that are excluded
+            BitSet includedBitmap = null;
+            for (Iterator<Plan> iterator = included.iterator(); iterator.hasNext();) {
+                Plan plan = iterator.next();
+                if (plan instanceof BitmapPlan) {
+                    BitSet bitmap = ((BitmapPlan) plan).bitmap;
+                    if (includedBitmap == null) {
+                        includedBitmap = bitmap;
+                    } else {
+                        includedBitmap.and(bitmap);
+                    }
+                    iterator.remove();
+                }
+            }
+            if (includedBitmap != null) {
+                for (Iterator<Plan> iterator = excluded.iterator(); iterator.hasNext();) {
+                    Plan plan = iterator.next();
+                    if (plan instanceof BitmapPlan) {
+                        includedBitmap.andNot(((BitmapPlan) plan).bitmap);
+                        iterator.remove();
+                    }
+                }
+                included.add(new BitmapPlan(addressBook.getPersonBitmapIndex(), includedBitmap));
+            }
+            // most selective operands first, so that later operands test as few persons as possible
+            included.sort(Comparator.comparingInt(Plan::getEstimatedSize));
+
+            return new Plan() {
+                @Override
+                public int getEstimatedSize() {
+                    return included.isEmpty() ? persons.size() : included.get(0).getEstimatedSize();
+                }
+
+                @Override
+                public boolean matches(Person person) {
+                    return included.stream().allMatch(plan -> plan.matches(person))
+                            && excluded.stream().noneMatch(plan -> plan.matches(person));
+                }
+
+                @Override
+                public Set<Person> evaluate() {
+                    Set<Person> result;
+                    if (included.isEmpty()) {
+                        result = newIdentitySet();
+                        result.addAll(persons);
+                    } else {
+                        result = included.get(0).evaluate();
+                    }
+                    for (Plan plan : included.subList(Math.min(1, included.size()), included.size())) {
+                        if (result.isEmpty()) {
+                            return result;
+                        }
+                        result.removeIf(person -> !plan.matches(person));
+                    }
+                    for (Plan plan : excluded) {
+                        if (result.isEmpty()) {
+                            return result;
+                        }
+                        result.removeIf(plan::matches);
+                    }
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().allMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof And // instanceof handles nulls
+                    && operands.equals(((And) other).operands)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons matched by any operand.
+     */
+    public static class Or extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        public Or(List<PersonQuery> operands) {
+            this.operands = List.copyOf(operands);
+        }
+
+        @Override
+        public Plan compile(ReadOnlyAddressBook addressBook) {
+            List<Person> persons = addressBook.getPersonList();
+            List<Plan> plans = new ArrayList<>();
+            BitSet unionBitmap = null;
+            for (PersonQuery operand : operands) {
+                Plan plan = operand.compile(addressBook);
+                if (!(plan instanceof BitmapPlan)) {
+                    plans.add(plan);
+                } else if (unionBitmap == null) {
+                    unionBitmap = ((BitmapPlan) plan).bitmap;
+                } else {
+                    // unite the bitmaps of tag and tutorial conditions
+                    unionBitmap.or(((BitmapPlan) plan).bitmap);
+                }
+            }
+            if (unionBitmap != null) {
+                plans.add(new BitmapPlan(addressBook.getPersonBitmapIndex(), unionBitmap));
+            }
+
+            return new Plan() {
+                @Override
+                public int getEstimatedSize() {
+                    int size = 0;
+                    for (Plan plan : plans) {
+                        size += plan.getEstimatedSize();
+                    }
+                    return Math.min(size, persons.size());
+                }
+
+                @Override
+                public boolean matches(Person person) {
+                    return plans.stream().anyMatch(plan -> plan.matches(person));
+                }
+
+                @Override
+                public Set<Person> evaluate() {
+                    Set<Person> result = newIdentitySet();
+                    for (Plan plan : plans) {
+                        result.addAll(plan.evaluate());
+                    }
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().anyMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Or // instanceof handles nulls
+                    && operands.equals(((Or) other).operands)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons not matched by the operand.
+     * Within an {@code AND}, the operand is instead removed from the persons matched by the other operands.
+     */
+    public static class Not extends PersonQuery {
+        private final PersonQuery operand;
+
+        public Not(PersonQuery operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        @Override
+        public Plan compile(ReadOnlyAddressBook addressBook) {
+            List<Person> persons = addressBook.getPersonList();
+            Plan plan = operand.compile(addressBook);
+
+            return new Plan() {
+                @Override
+                public int getEstimatedSize() {
+                    return persons.size();
+                }
+
+                @Override
+                public boolean matches(Person person) {
+                    return !plan.matches(person);
+                }
+
+                @Override
+                public Set<Person> evaluate() {
+                    Set<Person> result = newIdentitySet();
+                    for (Person person : persons) {
+                        if (!plan.matches(person)) {
+                            result.add(person);
+                        }
+                    }
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && operand.equals(((Not) other).operand)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operand.hashCode();
+        }
+    }
+
+    /**
+     * A plan for a condition that has been looked up as a set of persons.
+     */
+    private static class SetPlan implements Plan {
+        private final Set<Person> matches;
+
+        SetPlan(Set<Person> matches) {
+            this.matches = matches;
+        }
+
+        @Override
+        public int getEstimatedSize() {
+            return matches.size();
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return matches.contains(person);
+        }
+
+        @Override
+        public Set<Person> evaluate() {
+            Set<Person> result = newIdentitySet();
+            result.addAll(matches);
+            return result;
+        }
+    }
+
+    /**
+     * A plan for tag and tutorial conditions that have been looked up as a bitmap of person ordinals.
+     */
+    private static class BitmapPlan implements Plan {
+        private final PersonBitmapIndex index;
+        private final BitSet bitmap;
+
+        BitmapPlan(PersonBitmapIndex index, BitSet bitmap) {
+            this.index = index;
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        public int getEstimatedSize() {
+            return bitmap.cardinality();
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return index.isInBitmap(person, bitmap);
+        }
+
+        @Override
+        public Set<Person> evaluate() {
+            Set<Person> result = newIdentitySet();
+            result.addAll(index.getPersons(bitmap));
+            return result;
+        }
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
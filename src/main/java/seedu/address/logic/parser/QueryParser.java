@@ -0,0 +1,174 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALNAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonTokenIndex.Field;
+
+/**
+ * Parses a {@code find} query such as {@code tn/T01 AND t/probation AND NOT e/alice} into a {@code PersonQuery}.
+ *
+ * A condition is a prefix followed by one or more keywords, and matches persons with a word in that field that
+ * starts with any of the keywords. {@code NOT} binds tightest, then {@code AND}, then {@code OR}, and
+ * parentheses group conditions. Conditions that follow each other without an operator are combined with
+ * {@code OR}, as in a find by prefix.
+ */
+public class QueryParser {
+
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid find query: %1$s";
+
+    private static final Map<String, Field> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME.getPrefix(), Field.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE.getPrefix(), Field.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL.getPrefix(), Field.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_ADDRESS.getPrefix(), Field.ADDRESS);
+        FIELDS_BY_PREFIX.put(PREFIX_TAG.getPrefix(), Field.TAG);
+        FIELDS_BY_PREFIX.put(PREFIX_STUDENTID.getPrefix(), Field.STUDENT_ID);
+        FIELDS_BY_PREFIX.put(PREFIX_TUTORIALNAME.getPrefix(), Field.TUTORIAL_NAME);
+    }
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Returns true if {@code args} uses any of the query operators, and so should be parsed as a query.
+     */
+    public static boolean isQuery(String args) {
+        return tokenize(args).stream().anyMatch(token -> token.equals(AND) || token.equals(OR) || token.equals(NOT));
+    }
+
+    /**
+     * Parses {@code args} into a {@code PersonQuery}.
+     * @throws ParseException if {@code args} is not a valid query
+     */
+    public PersonQuery parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, "the query is empty"));
+        }
+
+        PersonQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, "unexpected " + tokens.get(position)));
+        }
+        return query;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (hasNext() && (peek().equals(OR) || startsOperand(peek()))) {
+            if (peek().equals(OR)) {
+                position++;
+            }
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new PersonQuery.Or(operands);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (hasNext() && peek().equals(AND)) {
+            position++;
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new PersonQuery.And(operands);
+    }
+
+    private PersonQuery parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, "a condition is missing at the end"));
+        }
+
+        String token = tokens.get(position++);
+        if (token.equals(NOT)) {
+            return new PersonQuery.Not(parseUnary());
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            PersonQuery query = parseOr();
+            if (!hasNext() || !peek().equals(CLOSE_PARENTHESIS)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_QUERY, "a closing bracket is missing"));
+            }
+            position++;
+            return query;
+        }
+        return parseTerm(token);
+    }
+
+    private PersonQuery parseTerm(String token) throws ParseException {
+        String prefix = getPrefix(token);
+        if (prefix == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, token + " does not start with a prefix"));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        if (token.length() > prefix.length()) {
+            keywords.add(token.substring(prefix.length()));
+        }
+        while (hasNext() && isKeyword(peek())) {
+            keywords.add(tokens.get(position++));
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, prefix + " has no keywords"));
+        }
+        return new PersonQuery.Term(FIELDS_BY_PREFIX.get(prefix), keywords);
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private static boolean startsOperand(String token) {
+        return token.equals(NOT) || token.equals(OPEN_PARENTHESIS) || getPrefix(token) != null;
+    }
+
+    private static boolean isKeyword(String token) {
+        return !token.equals(AND) && !token.equals(OR) && !token.equals(NOT) && !token.equals(OPEN_PARENTHESIS)
+                && !token.equals(CLOSE_PARENTHESIS) && getPrefix(token) == null;
+    }
+
+    /**
+     * Returns the field prefix that {@code token} starts with, or null if there is none.
+     */
+    private static String getPrefix(String token) {
+        for (String prefix : FIELDS_BY_PREFIX.keySet()) {
+            if (token.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> tokenize(String args) {
+        String spaced = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        return spaced.isEmpty() ? new ArrayList<>() : Arrays.asList(spaced.split("\\s+"));
+    }
+}
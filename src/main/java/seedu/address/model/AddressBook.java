@@ -3,9 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +24,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NusNetId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBitmapIndex;
+import seedu.address.model.person.PersonTokenIndex;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.UniqueFilteredPersonsList;
@@ -66,6 +70,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook holding {@code persons}, {@code tutorials} and {@code assessments}, with every
+     * person in the last shown list. Each list is filled in a single bulk replacement and the tutorial rosters
+     * are wired up once at the end, so this should be preferred over adding the items one at a time.
+     * None of the lists may contain duplicates.
+     */
+    public AddressBook(List<Person> persons, List<Tutorial> tutorials, List<Assessment> assessments) {
+        this();
+        requireAllNonNull(persons, tutorials, assessments);
+        setPersons(persons);
+        setTutorials(tutorials);
+        setAssessments(assessments);
+        lastShownList.setAll(persons);
+        rebuildRosters();
+    }
+
     //// list overwrite operations
 
     /**
@@ -110,6 +130,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTutorials(newData.getTutorialList());
         setAssessments(newData.getAssessmentList());
         setLastShownList(newData.getLastShownList());
+        rebuildRosters();
     }
 
     //// person-level operations
@@ -128,6 +149,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToRoster(p);
     }
 
     public void addLastShownItem(Person p) {
@@ -143,6 +165,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        updateRosters(target, editedPerson);
     }
 
     /**
@@ -151,6 +174,59 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        removeFromRoster(key);
+    }
+
+    /**
+     * Adds {@code person} to the roster of their tutorial if they are a student of an existing tutorial.
+     */
+    private void addToRoster(Person person) {
+        if (person instanceof Student && hasTutorialWithName(((Student) person).getTutorialName())) {
+            getTutorialWithName(((Student) person).getTutorialName()).addStudent((Student) person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the roster of their tutorial if they are a student of an existing tutorial.
+     */
+    private void removeFromRoster(Person person) {
+        if (person instanceof Student && hasTutorialWithName(((Student) person).getTutorialName())) {
+            getTutorialWithName(((Student) person).getTutorialName())
+                    .removeStudent(((Student) person).getStudentId());
+        }
+    }
+
+    /**
+     * Brings the tutorial rosters in line with {@code target} having been replaced by {@code editedPerson}.
+     * Edits that do not involve students leave every tutorial untouched, and edits that keep a student in
+     * the same tutorial under the same ID keep their attendance record.
+     */
+    private void updateRosters(Person target, Person editedPerson) {
+        if (target instanceof Student && editedPerson instanceof Student
+                && ((Student) target).getTutorialName().equals(((Student) editedPerson).getTutorialName())
+                && ((Student) target).getStudentId().equals(((Student) editedPerson).getStudentId())) {
+            addToRoster(editedPerson);
+            return;
+        }
+        removeFromRoster(target);
+        addToRoster(editedPerson);
+    }
+
+    /**
+     * Rebuilds the roster of every tutorial from the students in the person list, in a single pass
+     * over the persons.
+     */
+    private void rebuildRosters() {
+        Map<TutorialName, List<Person>> studentsByTutorial = new HashMap<>();
+        for (Person person : persons) {
+            if (person instanceof Student) {
+                studentsByTutorial.computeIfAbsent(((Student) person).getTutorialName(), k -> new ArrayList<>())
+                        .add(person);
+            }
+        }
+        for (Tutorial tutorial : tutorials.asUnmodifiableObservableList()) {
+            tutorial.setStudentsList(studentsByTutorial.getOrDefault(tutorial.getTutorialName(), List.of()));
+        }
     }
 
     /**
@@ -231,10 +307,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasStudentResult(Name studentName, AssessmentName assessmentName) {
         requireAllNonNull(studentName, assessmentName);
-        NusNetId studentId = persons.getIdOfStudent(studentName);
-        TutorialName tutorialName = persons.getTutorialNameOfStudent(studentName);
-        Tutorial tut = getTutorialWithName(tutorialName);
-        return tut.hasStudentResult(assessmentName, studentId);
+        Student student = persons.getStudentWithName(studentName);
+        Tutorial tut = getTutorialWithName(student.getTutorialName());
+        return tut.hasStudentResult(assessmentName, student.getStudentId());
     }
 
     /**
@@ -243,10 +318,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStudentResult(Name studentName, AssessmentName assessmentName, Score score) {
         requireAllNonNull(studentName, assessmentName, score);
-        NusNetId studentId = getIdOfStudent(studentName);
-        TutorialName tutorialName = getTutorialNameOfStudent(studentName);
-        Tutorial tut = getTutorialWithName(tutorialName);
-        StudentResult result = new StudentResult(studentName, studentId, score);
+        Student student = persons.getStudentWithName(studentName);
+        Tutorial tut = getTutorialWithName(student.getTutorialName());
+        StudentResult result = new StudentResult(studentName, student.getStudentId(), score);
         tut.addStudentResult(assessmentName, result);
     }
 
@@ -266,12 +340,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStudentResult(Name studentName, AssessmentName assessmentName, Score score) {
         requireAllNonNull(studentName, assessmentName, score);
-        if (!hasStudentResult(studentName, assessmentName)) {
+        Student student = persons.getStudentWithName(studentName);
+        NusNetId studentId = student.getStudentId();
+        Tutorial tut = getTutorialWithName(student.getTutorialName());
+        if (!tut.hasStudentResult(assessmentName, studentId)) {
             throw new StudentResultNotFoundException();
         }
-        NusNetId studentId = getIdOfStudent(studentName);
-        TutorialName tutorialName = getTutorialNameOfStudent(studentName);
-        Tutorial tut = getTutorialWithName(tutorialName);
         tut.setStudentResult(assessmentName, studentName, studentId, score);
     }
 
@@ -360,6 +434,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return assessments;
     }
 
+    @Override
+    public PersonTokenIndex getPersonTokenIndex() {
+        return persons.getTokenIndex();
+    }
+
+    @Override
+    public PersonBitmapIndex getPersonBitmapIndex() {
+        return persons.getBitmapIndex();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonsList() {
         return filteredPersons.asUnmodifiableObservableList();
@@ -399,8 +483,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addStudent(Student student) {
         requireNonNull(student);
         Person personMatch = persons.getPersonWithName(student.getName());
-        persons.setPerson(personMatch, student);
-        tutorials.getTutorialWithName(student.getTutorialName()).generateAttendance();
+        setPerson(personMatch, student);
     }
 
     /**
@@ -412,13 +495,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         Phone phone = student.getPhone();
         Email email = student.getEmail();
         Address address = student.getAddress();
-        student.removeTag("Student");
-        Set<Tag> tags = student.getTags();
+        Set<Tag> tags = student.withoutTag("Student").getTags();
 
         Person toReplaceStudent = new Person(name, phone, email, address, tags);
 
-        persons.setPerson(student, toReplaceStudent);
-        tutorials.getTutorialWithName(student.getTutorialName()).generateAttendance();
+        setPerson(student, toReplaceStudent);
     }
 
     /**
@@ -426,18 +507,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeStudentInTutorial(Tutorial tutorial) {
         requireNonNull(tutorial);
-        List<Person> studentsInTutorial = persons.asUnmodifiableObservableList()
-                .stream()
-                .filter(p -> (p instanceof Student)
-                        && ((Student) p).getTutorialName().equals(tutorial.getTutorialName()))
-                .collect(Collectors.toList());
-
-        for (Person p : studentsInTutorial) {
-            Student student = (Student) p;
+        TutorialName tutorialName = tutorial.getTutorialName();
+        if (!hasTutorialWithName(tutorialName)) {
+            return;
+        }
+        List<Student> studentsInTutorial = new ArrayList<>(
+                getTutorialWithName(tutorialName).getStudentsList().getStudentsInClass());
+
+        for (Student student : studentsInTutorial) {
             removeStudent(student);
         }
     }
 
+
     /// filteredPersons-level methods
     /**
      * Replaces the contents of the filtered person list with {@code filteredPersons}.
@@ -454,6 +536,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getStudentWithId(id);
     }
 
+    /**
+     * Returns true if a student with the same student id as {@code id} exists in the address book.
+     */
+    public boolean hasStudentWithId(NusNetId id) {
+        requireNonNull(id);
+        return persons.hasStudentWithId(id);
+    }
+
+    /**
+     * Returns true if a student with the same name as {@code name} exists in the address book.
+     */
+    public boolean hasStudentWithName(Name name) {
+        requireNonNull(name);
+        return persons.hasPersonWithName(name) && persons.getPersonWithName(name) instanceof Student;
+    }
+
     /**
      * Returns true if a student with the same student ID as {@code id}
      * exists in the tutorial with the same tutorial name as {@code tutorialName}.
@@ -0,0 +1,38 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalises equal instances of an immutable value class, so that equal values share a single instance.
+ * Values are held weakly, so those that are no longer used anywhere else can still be garbage collected.
+ *
+ * The value classes repeated across many persons and records, such as {@code Name}, {@code Tag} and
+ * {@code TutorialName}, each keep an interner behind a static {@code of} factory. Parsers and the storage adapters
+ * create their values through it, so that each distinct value is held only once, and equal values usually compare
+ * equal on the {@code ==} fast path of {@code equals}.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance that is equal to {@code value}.
+     * If there is none yet, {@code value} becomes the canonical instance.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+}
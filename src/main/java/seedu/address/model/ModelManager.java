@@ -52,8 +52,8 @@ public class ModelManager implements Model {
 
     /**
      * A list containing all Students in the address book.
-     * DO NOT MODIFY (as it is the list that {@link seedu.address.model.person.UniqueStudentsInTutorialList}
-     * listens to).
+     * DO NOT MODIFY (as it is the list that new tutorials build their
+     * {@link seedu.address.model.person.UniqueStudentsInTutorialList} from).
      */
     private final FilteredList<Person> allStudents;
     /**
@@ -302,7 +302,6 @@ public class ModelManager implements Model {
     public void updateFilteredAttendanceList(Tutorial tutorial, Name studentName) {
         requireAllNonNull(tutorial);
         ObservableList<Attendance> attendanceList = FXCollections.observableArrayList();
-        tutorial.generateAttendance();
         if (studentName != null) {
             attendanceList.setAll(tutorial.getAttendanceList().getAttendancesByStudentName(studentName));
         } else {
@@ -388,13 +387,13 @@ public class ModelManager implements Model {
     @Override
     public boolean hasStudentWithName(Name studentName) {
         requireNonNull(studentName);
-        return allStudents.stream().anyMatch(x -> x.getName().equals(studentName));
+        return addressBook.hasStudentWithName(studentName);
     }
 
     @Override
     public boolean hasStudentWithId(NusNetId studentId) {
         requireNonNull(studentId);
-        return allStudents.stream().anyMatch(x -> ((Student) x).getStudentId().equals(studentId));
+        return addressBook.hasStudentWithId(studentId);
     }
 
     @Override
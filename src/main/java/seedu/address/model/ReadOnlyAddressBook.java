@@ -3,6 +3,8 @@ package seedu.address.model;
 import javafx.collections.ObservableList;
 import seedu.address.model.assessment.Assessment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBitmapIndex;
+import seedu.address.model.person.PersonTokenIndex;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -28,6 +30,16 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Assessment> getAssessmentList();
 
+    /**
+     * Returns the word index over the persons list.
+     */
+    PersonTokenIndex getPersonTokenIndex();
+
+    /**
+     * Returns the tag and tutorial bitmap index over the persons list.
+     */
+    PersonBitmapIndex getPersonBitmapIndex();
+
     /**
      * Returns an unmodifiable view of the filtered persons list.
      * This list will not contain any duplicate persons.
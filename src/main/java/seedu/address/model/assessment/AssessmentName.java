@@ -3,6 +3,8 @@ package seedu.address.model.assessment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents an Assessment's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAssessmentName(String)}
@@ -11,6 +13,8 @@ public class AssessmentName {
     public static final String MESSAGE_CONSTRAINTS =
             "Assessment names should only contain alphanumeric characters and spaces, and should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Interner<AssessmentName> INTERNER = new Interner<>();
+
     public final String name;
 
     /**
@@ -24,6 +28,15 @@ public class AssessmentName {
         name = value;
     }
 
+    /**
+     * Returns the shared {@code AssessmentName} equal to {@code new AssessmentName(value)}.
+     *
+     * @param value an assessment name.
+     */
+    public static AssessmentName of(String value) {
+        return INTERNER.intern(new AssessmentName(value));
+    }
+
     /**
      * Returns true if a given String is a valid assessment name.
      */
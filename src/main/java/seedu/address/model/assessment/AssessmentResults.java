@@ -3,6 +3,9 @@ package seedu.address.model.assessment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.assessment.exceptions.DuplicateStudentResultException;
@@ -14,6 +17,7 @@ import seedu.address.model.person.NusNetId;
  * Contains a list of the students' results for a particular Assessment (found in UniqueAssessmentList).
  * The students are in the same Tutorial.
  * Has a whole-part relationship with StudentResult.
+ * Each StudentResult is indexed by the student's NusNetId, so lookups, additions and updates do not scan the list.
  *
  * TODO: implement remove and setStudentResult (for updating student's result)
  * @see seedu.address.model.person.UniquePersonList
@@ -27,6 +31,7 @@ public class AssessmentResults {
     private final ObservableList<StudentResult> results = FXCollections.observableArrayList();
     private final ObservableList<StudentResult> unmodifiableResults =
             FXCollections.unmodifiableObservableList(results);
+    private final Map<NusNetId, Integer> indexByStudentId = new HashMap<>();
 
     /**
      * Constructs an AssessmentResults.
@@ -64,7 +69,7 @@ public class AssessmentResults {
      */
     public boolean contains(StudentResult toCheck) {
         requireNonNull(toCheck);
-        return results.stream().anyMatch(toCheck::isSameStudentResult);
+        return indexByStudentId.containsKey(toCheck.getStudentId());
     }
 
     /**
@@ -77,6 +82,7 @@ public class AssessmentResults {
         if (contains(toAdd)) {
             throw new DuplicateStudentResultException();
         }
+        indexByStudentId.put(toAdd.getStudentId(), results.size());
         results.add(toAdd);
     }
 
@@ -86,12 +92,14 @@ public class AssessmentResults {
      */
     public void removeByStudentId(NusNetId studentId) {
         requireNonNull(studentId);
-        for (int i = 0; i < results.size(); i++) {
-            StudentResult current = results.get(i);
-            if (current.getStudentId().equals(studentId)) {
-                results.remove(current);
-                return;
-            }
+        Integer index = indexByStudentId.remove(studentId);
+        if (index == null) {
+            return;
+        }
+        results.remove(index.intValue());
+        // results after the removed one have shifted down by one
+        for (int i = index; i < results.size(); i++) {
+            indexByStudentId.put(results.get(i).getStudentId(), i);
         }
     }
 
@@ -100,14 +108,11 @@ public class AssessmentResults {
      */
     public void set(Name studentName, NusNetId studentId, Score score) {
         requireAllNonNull(studentName, studentId, score);
-        for (int i = 0; i < results.size(); i++) {
-            if (results.get(i).getStudentId().equals(studentId)) {
-                StudentResult studentResult = new StudentResult(studentName, studentId, score);
-                results.set(i, studentResult);
-                return;
-            }
+        Integer index = indexByStudentId.get(studentId);
+        if (index == null) {
+            throw new StudentResultNotFoundException();
         }
-        throw new StudentResultNotFoundException();
+        results.set(index, new StudentResult(studentName, studentId, score));
     }
 
     public ObservableList<StudentResult> asUnmodifiableStudentResultsList() {
@@ -119,7 +124,7 @@ public class AssessmentResults {
      */
     public boolean hasStudentResultByStudentId(NusNetId studentId) {
         requireNonNull(studentId);
-        return results.stream().anyMatch(x -> x.getStudentId().equals(studentId));
+        return indexByStudentId.containsKey(studentId);
     }
 
     @Override
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.model.assessment.exceptions.AssessmentNotFoundException;
 import seedu.address.model.assessment.exceptions.DuplicateAssessmentException;
@@ -30,6 +32,7 @@ public class AssessmentResultsList {
     // Data field
     private final List<AssessmentResults> assessmentResultsList = new ArrayList<>();
     private final List<AssessmentResults> unmodifiableResultsList = Collections.unmodifiableList(assessmentResultsList);
+    private final Map<AssessmentName, AssessmentResults> resultsByName = new HashMap<>();
 
     /**
      * Constructs an AssessmentResultsList.
@@ -46,7 +49,7 @@ public class AssessmentResultsList {
      */
     public boolean contains(AssessmentResults toCheck) {
         requireNonNull(toCheck);
-        return assessmentResultsList.stream().anyMatch(toCheck::isSameAssessmentResults);
+        return resultsByName.containsKey(toCheck.getAssessmentName());
     }
 
     /**
@@ -54,7 +57,7 @@ public class AssessmentResultsList {
      */
     public boolean hasAssessmentResultsByName(AssessmentName assessmentName) {
         requireNonNull(assessmentName);
-        return assessmentResultsList.stream().anyMatch(x -> x.hasAssessmentName(assessmentName));
+        return resultsByName.containsKey(assessmentName);
     }
 
     /**
@@ -119,6 +122,7 @@ public class AssessmentResultsList {
             throw new DuplicateAssessmentException();
         }
         assessmentResultsList.add(toAdd);
+        resultsByName.put(toAdd.getAssessmentName(), toAdd);
     }
 
     /**
@@ -126,12 +130,11 @@ public class AssessmentResultsList {
      */
     public AssessmentResults getAssessmentResultsByName(AssessmentName name) {
         requireNonNull(name);
-        for (int i = 0; i < assessmentResultsList.size(); i++) {
-            if (assessmentResultsList.get(i).hasAssessmentName(name)) {
-                return assessmentResultsList.get(i);
-            }
+        AssessmentResults assessmentResults = resultsByName.get(name);
+        if (assessmentResults == null) {
+            throw new AssessmentNotFoundException();
         }
-        throw new AssessmentNotFoundException();
+        return assessmentResults;
     }
 
     /**
@@ -139,13 +142,11 @@ public class AssessmentResultsList {
      */
     public void removeAssessmentResultsByName(AssessmentName name) {
         requireNonNull(name);
-        for (int i = 0; i < assessmentResultsList.size(); i++) {
-            if (assessmentResultsList.get(i).hasAssessmentName(name)) {
-                assessmentResultsList.remove(i);
-                return;
-            }
+        AssessmentResults toRemove = resultsByName.remove(name);
+        if (toRemove == null) {
+            throw new AssessmentNotFoundException();
         }
-        throw new AssessmentNotFoundException();
+        assessmentResultsList.remove(toRemove);
     }
 
     /**
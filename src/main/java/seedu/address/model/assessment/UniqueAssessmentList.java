@@ -3,7 +3,9 @@ package seedu.address.model.assessment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,9 +21,13 @@ import seedu.address.model.assessment.exceptions.DuplicateAssessmentException;
  * However, the removal of an assessment uses {@code Assessment#equals(Object)} to ensure that the assessment
  * with exactly the same fields is removed.
  *
+ * The assessments are held in an insertion-ordered map keyed on {@code AssessmentName}, which is mirrored by an
+ * observable list for the UI.
+ *
  * @see Assessment#isSameAssessment(Assessment)
  */
 public class UniqueAssessmentList {
+    private final Map<AssessmentName, Assessment> assessmentsByName = new LinkedHashMap<>();
     private final ObservableList<Assessment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Assessment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
@@ -32,7 +38,7 @@ public class UniqueAssessmentList {
      */
     public boolean contains(Assessment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAssessment);
+        return assessmentsByName.containsKey(toCheck.getAssessmentName());
     }
 
     /**
@@ -40,7 +46,7 @@ public class UniqueAssessmentList {
      */
     public boolean containsByName(AssessmentName name) {
         requireNonNull(name);
-        return internalList.stream().anyMatch(x -> x.hasName(name));
+        return assessmentsByName.containsKey(name);
     }
 
     /**
@@ -52,18 +58,21 @@ public class UniqueAssessmentList {
         if (contains(toAdd)) {
             throw new DuplicateAssessmentException();
         }
+        assessmentsByName.put(toAdd.getAssessmentName(), toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Returns the assessment with the given name.
+     * @throws AssessmentNotFoundException if no assessment in the list has the given name.
+     */
     public Assessment getByName(AssessmentName name) {
         requireNonNull(name);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).hasName(name)) {
-                Assessment assessment = internalList.get(i);
-                return assessment;
-            }
+        Assessment assessment = assessmentsByName.get(name);
+        if (assessment == null) {
+            throw new AssessmentNotFoundException();
         }
-        throw new AssessmentNotFoundException();
+        return assessment;
     }
 
     /**
@@ -84,6 +93,11 @@ public class UniqueAssessmentList {
         }
 
         internalList.set(index, editedAssessment);
+        if (target.isSameAssessment(editedAssessment)) {
+            assessmentsByName.put(editedAssessment.getAssessmentName(), editedAssessment);
+        } else {
+            rebuildIndex();
+        }
     }
 
     /**
@@ -92,9 +106,12 @@ public class UniqueAssessmentList {
      */
     public void remove(Assessment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Assessment existing = assessmentsByName.get(toRemove.getAssessmentName());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new AssessmentNotFoundException();
         }
+        assessmentsByName.remove(toRemove.getAssessmentName());
+        internalList.remove(existing);
     }
 
     /**
@@ -103,14 +120,12 @@ public class UniqueAssessmentList {
      */
     public Assessment removeByName(AssessmentName name) {
         requireNonNull(name);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).hasName(name)) {
-                Assessment toRemove = internalList.get(i);
-                remove(toRemove);
-                return toRemove;
-            }
+        Assessment toRemove = assessmentsByName.remove(name);
+        if (toRemove == null) {
+            throw new AssessmentNotFoundException();
         }
-        throw new AssessmentNotFoundException();
+        internalList.remove(toRemove);
+        return toRemove;
     }
 
     /**
@@ -138,18 +153,29 @@ public class UniqueAssessmentList {
      */
     public void setAssessments(List<Assessment> assessments) {
         requireAllNonNull(assessments);
-        if (!assessmentsAreUnique(assessments)) {
+        if (!buildIndex(assessments)) {
+            rebuildIndex();
             throw new DuplicateAssessmentException();
         }
         internalList.setAll(assessments);
     }
 
-    private boolean assessmentsAreUnique(List<Assessment> assessments) {
-        for (int i = 0; i < assessments.size() - 1; i++) {
-            for (int j = i + 1; j < assessments.size(); j++) {
-                if (assessments.get(i).isSameAssessment(assessments.get(j))) {
-                    return false;
-                }
+    /**
+     * Rebuilds the name index from the backing list, keeping the list order.
+     */
+    private void rebuildIndex() {
+        buildIndex(internalList);
+    }
+
+    /**
+     * Replaces the name index with one built from {@code assessments} in a single pass.
+     * Returns false, leaving the index partially built, as soon as two assessments share a name.
+     */
+    private boolean buildIndex(List<Assessment> assessments) {
+        assessmentsByName.clear();
+        for (Assessment assessment : assessments) {
+            if (assessmentsByName.putIfAbsent(assessment.getAssessmentName(), assessment) != null) {
+                return false;
             }
         }
         return true;
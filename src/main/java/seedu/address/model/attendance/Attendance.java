@@ -1,8 +1,12 @@
 package seedu.address.model.attendance;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
 
 import seedu.address.model.DisplayType;
 import seedu.address.model.Displayable;
@@ -14,9 +18,16 @@ import seedu.address.model.person.NusNetId;
  */
 public class Attendance implements Displayable {
 
+    /** The most weeks a tutorial can be held for, which fits in one bit per week of a long. */
+    public static final int MAX_WEEKS = 60;
+    public static final String MESSAGE_TOO_MANY_WEEKS = "Attendance can only be recorded for up to "
+            + MAX_WEEKS + " weeks!";
+
     private static final DisplayType displayType = DisplayType.ATTENDANCE;
 
-    private final ArrayList<Integer> attendanceList;
+    /** Bit {@code i} is set if the student was present in week {@code i + 1}. */
+    private long presentWeeks;
+    private final int weeks;
     private final Name studentName;
     private final NusNetId studentId;
     private final Comment comment;
@@ -29,16 +40,88 @@ public class Attendance implements Displayable {
      * @param studentId the NusNetId of a student.
      * @param comment motes for a student.
      */
-    public Attendance(ArrayList<Integer> attendanceList, Name studentName, NusNetId studentId, Comment comment) {
-        requireAllNonNull(attendanceList, studentName, studentId, comment);
-        this.attendanceList = attendanceList;
+    public Attendance(List<Integer> attendanceList, Name studentName, NusNetId studentId, Comment comment) {
+        this(toBitmask(attendanceList), attendanceList.size(), studentName, studentId, comment);
+    }
+
+    /**
+     * Constructs an Attendance record from a bitmask of the weeks attended.
+     *
+     * @param presentWeeks bit {@code i} is set if the student was present in week {@code i + 1}.
+     * @param weeks the amount of weeks the tutorial is held for.
+     * @param studentName the Name of a student.
+     * @param studentId the NusNetId of a student.
+     * @param comment notes for a student.
+     */
+    public Attendance(long presentWeeks, int weeks, Name studentName, NusNetId studentId, Comment comment) {
+        requireAllNonNull(studentName, studentId, comment);
+        checkArgument(weeks >= 0 && weeks <= MAX_WEEKS, MESSAGE_TOO_MANY_WEEKS);
+        this.presentWeeks = presentWeeks & maskOf(weeks);
+        this.weeks = weeks;
         this.studentName = studentName;
         this.studentId = studentId;
         this.comment = comment;
     }
 
-    public ArrayList<Integer> getAttendanceList() {
-        return attendanceList;
+    private static long toBitmask(List<Integer> attendanceList) {
+        requireNonNull(attendanceList);
+        checkArgument(attendanceList.size() <= MAX_WEEKS, MESSAGE_TOO_MANY_WEEKS);
+        long bits = 0L;
+        for (int i = 0; i < attendanceList.size(); i++) {
+            if (attendanceList.get(i) != 0) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    private static long maskOf(int weeks) {
+        return (1L << weeks) - 1;
+    }
+
+    /**
+     * Returns a read-only view of the attendance, with 1 for each week present and 0 for each week absent.
+     */
+    public List<Integer> getAttendanceList() {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return isPresentInWeek(index + 1) ? 1 : 0;
+            }
+
+            @Override
+            public int size() {
+                return weeks;
+            }
+        };
+    }
+
+    public int getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Returns true if the student was present in {@code week}.
+     *
+     * @throws IndexOutOfBoundsException if {@code week} is not within the weeks recorded.
+     */
+    public boolean isPresentInWeek(int week) {
+        int index = Objects.checkIndex(week - 1, weeks);
+        return (presentWeeks & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the weeks the student was present for, with bit {@code i} set if present in week {@code i + 1}.
+     */
+    public long getPresentWeeks() {
+        return presentWeeks;
+    }
+
+    /**
+     * Returns the number of weeks the student was present for.
+     */
+    public int getPresentCount() {
+        return Long.bitCount(presentWeeks);
     }
 
     public Name getStudentName() {
@@ -54,8 +137,7 @@ public class Attendance implements Displayable {
     }
 
     public String getAttendanceStatusByWeek(int week) {
-        int index = week - 1;
-        if (attendanceList.get(index).equals(0)) {
+        if (!isPresentInWeek(week)) {
             return "Status: Absent";
         }
         return "Status: Present";
@@ -67,8 +149,8 @@ public class Attendance implements Displayable {
      * @param week The week to mark the attendance for.
      */
     public void markWeek(int week) {
-        int index = week - 1;
-        attendanceList.set(index, 1);
+        int index = Objects.checkIndex(week - 1, weeks);
+        presentWeeks |= 1L << index;
     }
 
     /**
@@ -77,8 +159,8 @@ public class Attendance implements Displayable {
      * @param week The week to unmark the attendance for.
      */
     public void unmarkWeek(int week) {
-        int index = week - 1;
-        attendanceList.set(index, 0);
+        int index = Objects.checkIndex(week - 1, weeks);
+        presentWeeks &= ~(1L << index);
     }
 
     /**
@@ -98,9 +180,9 @@ public class Attendance implements Displayable {
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < attendanceList.size(); i++) {
+        for (int i = 0; i < weeks; i++) {
             int index = i + 1;
-            int present = attendanceList.get(i);
+            int present = (int) (presentWeeks >>> i) & 1;
 
             stringBuilder.append("Week ")
                     .append(index)
@@ -117,7 +199,13 @@ public class Attendance implements Displayable {
                 || (o instanceof Attendance
                 && studentName.equals(((Attendance) o).studentName)
                 && studentId.equals(((Attendance) o).studentId)
-                && attendanceList.equals(((Attendance) o).attendanceList)
+                && weeks == ((Attendance) o).weeks
+                && presentWeeks == ((Attendance) o).presentWeeks
                 && comment.equals(((Attendance) o).comment));
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentName, studentId, weeks, presentWeeks, comment);
+    }
 }
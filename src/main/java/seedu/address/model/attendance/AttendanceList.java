@@ -4,21 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NusNetId;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.UniqueStudentsInTutorialList;
 
 /**
  * Contains a list of all students attendance lists.
  * The students are in the same Tutorial.
+ * The attendance records are keyed by the student's NusNetId (and name, for comments), and are kept in step with
+ * the tutorial's roster through {@link #addStudent(Name, NusNetId)} and {@link #removeStudent(NusNetId)}.
  */
 public class AttendanceList {
-    private final ArrayList<Attendance> attendances;
+    private final Map<NusNetId, Attendance> attendancesById = new LinkedHashMap<>();
+    private final Map<Name, Attendance> attendancesByName = new HashMap<>();
     private final int weeks;
 
     /**
@@ -29,53 +35,83 @@ public class AttendanceList {
      */
     public AttendanceList(ArrayList<Attendance> attendances, int weeks) {
         requireAllNonNull(attendances);
-        this.attendances = attendances;
         this.weeks = weeks;
+        attendances.forEach(this::add);
     }
 
     public int getWeeks() {
         return weeks;
     }
 
+    /**
+     * Returns the attendance records, in the order the students were added.
+     */
     public ArrayList<Attendance> getAttendances() {
-        return attendances;
+        return new ArrayList<>(attendancesById.values());
+    }
+
+    private void add(Attendance attendance) {
+        attendancesById.put(attendance.getStudentId(), attendance);
+        attendancesByName.put(attendance.getStudentName(), attendance);
+    }
+
+    /**
+     * Returns true if there is an attendance record for the student with {@code studentId}.
+     */
+    public boolean hasStudent(NusNetId studentId) {
+        requireNonNull(studentId);
+        return attendancesById.containsKey(studentId);
+    }
+
+    /**
+     * Adds a blank attendance record for a student who has joined the tutorial.
+     * Does nothing if the student already has a record.
+     *
+     * @param studentName the Name of a student.
+     * @param studentId the NusNetId of a student.
+     */
+    public void addStudent(Name studentName, NusNetId studentId) {
+        requireAllNonNull(studentName, studentId);
+        if (attendancesById.containsKey(studentId)) {
+            return;
+        }
+        add(new Attendance(0L, weeks, studentName, studentId, new Comment("")));
     }
 
     /**
-     * Generates attendance records for students who do not have any records present in the list.
+     * Removes the attendance record of a student who has left the tutorial.
+     *
+     * @param studentId the NusNetId of a student.
+     */
+    public void removeStudent(NusNetId studentId) {
+        requireNonNull(studentId);
+        Attendance removed = attendancesById.remove(studentId);
+        if (removed != null) {
+            attendancesByName.remove(removed.getStudentName(), removed);
+        }
+    }
+
+    /**
+     * Generates attendance records for students who do not have any records present in the list,
+     * and removes the records of students who are no longer in the tutorial.
+     * Only needed when the whole roster is (re)attached; single roster changes should use
+     * {@link #addStudent(Name, NusNetId)} and {@link #removeStudent(NusNetId)}.
      *
      * @param uniqueStudentList the list of students in the tutorial.
      */
     public void generateAttendance(UniqueStudentsInTutorialList uniqueStudentList) {
         requireNonNull(uniqueStudentList);
-        FilteredList<Person> studentList = uniqueStudentList.getStudentsInClass();
-        for (Person p : studentList) {
-            Student student = (Student) p;
-            Name studentName = student.getName();
-            NusNetId studentId = student.getStudentId();
-            boolean hasAttendencePresent = false;
-
-
-            for (Attendance attendance : attendances) {
-                if (attendance.getStudentId().equals(studentId)) {
-                    hasAttendencePresent = true;
-                    break;
-                }
-            }
-
-            if (!hasAttendencePresent) {
-                ArrayList<Integer> studentAttendance = new ArrayList<>();
-                for (int i = 0; i < weeks; i++) {
-                    studentAttendance.add(0);
-                }
-                attendances.add(new Attendance(studentAttendance, studentName, studentId, new Comment("")));
-            }
+        Set<NusNetId> studentIds = new HashSet<>();
+        for (Student student : uniqueStudentList.getStudentsInClass()) {
+            studentIds.add(student.getStudentId());
+            addStudent(student.getName(), student.getStudentId());
         }
 
-        for (Iterator<Attendance> iterator = attendances.iterator(); iterator.hasNext();) {
+        for (Iterator<Attendance> iterator = attendancesById.values().iterator(); iterator.hasNext();) {
             Attendance attendance = iterator.next();
-            if (!uniqueStudentList.containsStudentWithId(attendance.getStudentId())) {
+            if (!studentIds.contains(attendance.getStudentId())) {
                 iterator.remove();
+                attendancesByName.remove(attendance.getStudentName(), attendance);
             }
         }
     }
@@ -88,14 +124,8 @@ public class AttendanceList {
      */
     public ArrayList<Attendance> getAttendancesByStudentName(Name studentName) {
         requireNonNull(studentName);
-        Attendance attendanceToAdd = null;
+        Attendance attendanceToAdd = attendancesByName.get(studentName);
         ArrayList<Attendance> attendanceList = new ArrayList<>();
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentName().equals(studentName)) {
-                attendanceToAdd = attendance;
-                break;
-            }
-        }
         for (int i = 0; i < weeks; i++) {
             attendanceList.add(attendanceToAdd);
         }
@@ -109,7 +139,7 @@ public class AttendanceList {
      */
     public void markAllAttendance(int week) {
         requireNonNull(week);
-        for (Attendance attendance : attendances) {
+        for (Attendance attendance : attendancesById.values()) {
             attendance.markWeek(week);
         }
     }
@@ -122,11 +152,9 @@ public class AttendanceList {
      */
     public void markAttendanceForStudent(NusNetId studentId, int week) {
         requireAllNonNull(studentId, week);
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentId().equals(studentId)) {
-                attendance.markWeek(week);
-                break;
-            }
+        Attendance attendance = attendancesById.get(studentId);
+        if (attendance != null) {
+            attendance.markWeek(week);
         }
     }
 
@@ -137,7 +165,7 @@ public class AttendanceList {
      */
     public void unmarkAllAttendance(int week) {
         requireNonNull(week);
-        for (Attendance attendance : attendances) {
+        for (Attendance attendance : attendancesById.values()) {
             attendance.unmarkWeek(week);
         }
     }
@@ -150,11 +178,9 @@ public class AttendanceList {
      */
     public void unmarkAttendanceForStudent(NusNetId studentId, int week) {
         requireAllNonNull(studentId, week);
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentId().equals(studentId)) {
-                attendance.unmarkWeek(week);
-                break;
-            }
+        Attendance attendance = attendancesById.get(studentId);
+        if (attendance != null) {
+            attendance.unmarkWeek(week);
         }
     }
 
@@ -166,11 +192,9 @@ public class AttendanceList {
      */
     public void addComment(Name studentName, Comment comment) {
         requireAllNonNull(studentName, comment);
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentName().equals(studentName)) {
-                attendance.addComment(comment);
-                break;
-            }
+        Attendance attendance = attendancesByName.get(studentName);
+        if (attendance != null) {
+            attendance.addComment(comment);
         }
     }
 
@@ -181,11 +205,9 @@ public class AttendanceList {
      */
     public void removeComment(Name studentName) {
         requireNonNull(studentName);
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentName().equals(studentName)) {
-                attendance.addComment(new Comment(""));
-                break;
-            }
+        Attendance attendance = attendancesByName.get(studentName);
+        if (attendance != null) {
+            attendance.addComment(new Comment(""));
         }
     }
 
@@ -197,11 +219,9 @@ public class AttendanceList {
     public Comment viewComment(Name studentName) {
         requireNonNull(studentName);
         Comment commentToView = new Comment("");
-        for (Attendance attendance : attendances) {
-            if (attendance.getStudentName().equals(studentName)) {
-                commentToView = attendance.getComment();
-                break;
-            }
+        Attendance attendance = attendancesByName.get(studentName);
+        if (attendance != null) {
+            commentToView = attendance.getComment();
         }
         assert(commentToView != null);
         return commentToView;
@@ -55,4 +55,9 @@ public class Comment implements Displayable {
         Comment otherComment = (Comment) other;
         return otherComment.getCommentString().equals(getCommentString());
     }
+
+    @Override
+    public int hashCode() {
+        return commentString.hashCode();
+    }
 }
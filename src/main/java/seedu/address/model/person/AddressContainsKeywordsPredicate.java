@@ -1,24 +1,33 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
 public class AddressContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as prefixes of the words in each person's address.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        Set<Person> matches = index.getPersonsWithAnyWordPrefix(PersonTokenIndex.Field.ADDRESS, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getAddress().value, keyword));
+        return person.getSearchKeys().hasAnyWordWithPrefix(PersonTokenIndex.Field.ADDRESS, foldedKeywords);
     }
 
     @Override
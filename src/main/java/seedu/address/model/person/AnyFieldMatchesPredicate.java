@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that any one of a {@code Person}'s fields matches the keywords given for that field.
+ * The field predicates are tried in order and evaluation stops at the first match, so a list of persons
+ * can be searched on every field in a single pass.
+ */
+public class AnyFieldMatchesPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> fieldPredicates;
+
+    /**
+     * Constructs an {@code AnyFieldMatchesPredicate} that matches a person accepted by any of {@code fieldPredicates}.
+     */
+    public AnyFieldMatchesPredicate(List<? extends Predicate<Person>> fieldPredicates) {
+        requireNonNull(fieldPredicates);
+        this.fieldPredicates = List.copyOf(fieldPredicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> fieldPredicate : fieldPredicates) {
+            if (fieldPredicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AnyFieldMatchesPredicate // instanceof handles nulls
+                && fieldPredicates.equals(((AnyFieldMatchesPredicate) other).fieldPredicates)); // state check
+    }
+}
@@ -1,18 +1,31 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
 public class EmailContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as prefixes of the words in each person's email.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals("NULL_INPUT")) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = index.getPersonsWithAnyWordPrefix(PersonTokenIndex.Field.EMAIL, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -21,8 +34,7 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.size() == 1 && keywords.get(0).equals("NULL_INPUT")) {
             return false;
         }
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword));
+        return person.getSearchKeys().hasAnyWordWithPrefix(PersonTokenIndex.Field.EMAIL, foldedKeywords);
     }
 
     @Override
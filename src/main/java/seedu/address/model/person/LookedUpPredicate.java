@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests persons against the persons found by looking up a predicate's keywords in an index, and against the
+ * predicate itself once that lookup is released.
+ *
+ * The lookup only holds the persons that matched when it ran, so it cannot tell whether a person added or replaced
+ * since then matches. Once it has been applied to the persons it was looked up from, such as by installing this as
+ * the filter of a person list, call {@link #release()}. Persons the list tests later are then tested on their
+ * fields, and the persons found are no longer kept.
+ */
+public class LookedUpPredicate implements Predicate<Person> {
+    private final Predicate<Person> predicate;
+    private Set<Person> matches;
+
+    /**
+     * Constructs a {@code LookedUpPredicate} that accepts {@code matches}, the persons found by looking up
+     * {@code predicate} in an index, until it is released.
+     */
+    public LookedUpPredicate(Set<Person> matches, Predicate<Person> predicate) {
+        requireNonNull(matches);
+        requireNonNull(predicate);
+        this.matches = matches;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Drops the persons found by the lookup, so that persons are tested against the predicate from now on.
+     */
+    public void release() {
+        matches = null;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matches != null ? matches.contains(person) : predicate.test(person);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An index of words by the trigrams (runs of three characters) they contain, which finds the words containing
+ * a given substring without checking every word.
+ * A substring of at least three characters can only occur in words that contain all of its trigrams, so only
+ * the words in the smallest of those trigram sets need to be checked. Shorter substrings are checked against
+ * every word.
+ */
+class NGramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Set<String> words = new HashSet<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (!words.add(word)) {
+            return;
+        }
+        for (int start = 0; start + GRAM_LENGTH <= word.length(); start++) {
+            wordsByGram.computeIfAbsent(word.substring(start, start + GRAM_LENGTH), unused -> new HashSet<>())
+                    .add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        if (!words.remove(word)) {
+            return;
+        }
+        for (int start = 0; start + GRAM_LENGTH <= word.length(); start++) {
+            wordsByGram.computeIfPresent(word.substring(start, start + GRAM_LENGTH), (unused, gramWords) -> {
+                gramWords.remove(word);
+                return gramWords.isEmpty() ? null : gramWords;
+            });
+        }
+    }
+
+    /**
+     * Passes each word in the index that contains {@code substring} to {@code action}.
+     */
+    void forEachWordContaining(String substring, Consumer<String> action) {
+        requireNonNull(substring);
+        Set<String> candidates = words;
+        for (int start = 0; start + GRAM_LENGTH <= substring.length(); start++) {
+            Set<String> gramWords = wordsByGram.get(substring.substring(start, start + GRAM_LENGTH));
+            if (gramWords == null) {
+                return;
+            }
+            if (gramWords.size() < candidates.size()) {
+                candidates = gramWords;
+            }
+        }
+
+        for (String word : candidates) {
+            if (word.contains(substring)) {
+                action.accept(word);
+            }
+        }
+    }
+}
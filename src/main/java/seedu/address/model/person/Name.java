@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String fullName;
 
     /**
@@ -31,6 +35,15 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the shared {@code Name} equal to {@code new Name(name)}.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
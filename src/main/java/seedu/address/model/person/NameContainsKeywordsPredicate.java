@@ -1,15 +1,15 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
     private final boolean isPartial;
 
     /**
@@ -20,6 +20,22 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     public NameContainsKeywordsPredicate(List<String> keywords, boolean isPartial) {
         this.isPartial = isPartial;
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one.
+     * Keywords are looked up in the index once, as whole words or as word prefixes, so that testing each
+     * person is a set lookup instead of splitting and comparing the person's name.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals("NULL_INPUT")) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = isPartial
+                ? index.getPersonsWithAnyWordPrefix(PersonTokenIndex.Field.NAME, keywords)
+                : index.getPersonsWithAnyWord(PersonTokenIndex.Field.NAME, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -30,11 +46,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         if (isPartial) {
-            return keywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword));
+            return person.getSearchKeys().hasAnyWordWithPrefix(PersonTokenIndex.Field.NAME, foldedKeywords);
         } else {
-            return keywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+            return person.getSearchKeys().hasAnyWord(PersonTokenIndex.Field.NAME, foldedKeywords);
         }
     }
 
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.PersonTokenIndex.Field;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} or, for a {@code Student}, {@code NusNetId} has a word that is
+ * within a few typing mistakes of any of the keywords given.
+ * Short keywords allow fewer mistakes, so that they do not match most of the address book.
+ */
+public class NameOrStudentIdNearKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+
+    public NameOrStudentIdNearKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns the largest edit distance at which a word still matches {@code keyword}.
+     */
+    public static int getMaxDistance(String keyword) {
+        int length = keyword.length();
+        if (length <= 2) {
+            return 0;
+        } else if (length <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords by edit distance in the index's names and student IDs.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        Set<Person> matches = PersonTokenIndex.newIdentitySet();
+        for (String keyword : foldedKeywords) {
+            List<String> keywordList = List.of(keyword);
+            int maxDistance = getMaxDistance(keyword);
+            matches.addAll(index.getPersonsWithAnyWordNear(Field.NAME, keywordList, maxDistance));
+            matches.addAll(index.getPersonsWithAnyWordNear(Field.STUDENT_ID, keywordList, maxDistance));
+        }
+        return new LookedUpPredicate(matches, this);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        SearchKeys searchKeys = person.getSearchKeys();
+        for (String keyword : foldedKeywords) {
+            int maxDistance = getMaxDistance(keyword);
+            if (searchKeys.hasWordNear(Field.NAME, keyword, maxDistance)
+                    || searchKeys.hasWordNear(Field.STUDENT_ID, keyword, maxDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameOrStudentIdNearKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameOrStudentIdNearKeywordsPredicate) other).keywords)); // state check
+    }
+}
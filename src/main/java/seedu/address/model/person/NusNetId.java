@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents a Student's NUSNET ID in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
@@ -13,6 +15,8 @@ public class NusNetId {
     public static final String VALIDATION_REGEX = "^e\\d{7}";
     public static final String NULL_INPUT = "NULL_INPUT";
 
+    private static final Interner<NusNetId> INTERNER = new Interner<>();
+
     public final String id;
 
     /**
@@ -27,6 +31,15 @@ public class NusNetId {
 
     }
 
+    /**
+     * Returns the shared {@code NusNetId} equal to {@code new NusNetId(value)}.
+     *
+     * @param value an NUSNET ID.
+     */
+    public static NusNetId of(String value) {
+        return INTERNER.intern(new NusNetId(value));
+    }
+
     /**
      * Returns true if a given string is a valid NUSNET ID.
      */
@@ -19,13 +19,18 @@ public class Person implements Displayable {
 
     // Identity fields
     private static final DisplayType displayType = DisplayType.PERSON;
+    private static final Tag STUDENT_TAG = Tag.of("student");
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    // Cached hash code and search keys, computed on first use as every field is immutable
+    private int hash;
+    private SearchKeys searchKeys;
 
     /**
      * Every field must be present and not null.
@@ -36,7 +41,7 @@ public class Person implements Displayable {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
     }
 
     public Name getName() {
@@ -65,33 +70,51 @@ public class Person implements Displayable {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the case-folded words of this person's searchable fields, computing them on first use.
+     */
+    public SearchKeys getSearchKeys() {
+        if (searchKeys == null) {
+            searchKeys = SearchKeys.of(this);
+        }
+        return searchKeys;
     }
 
     /**
-     * Adds a tag to the tag set
+     * Returns a copy of this person with the tag {@code tagName} added to the tag set.
      */
-    public void addTag(String tagName) {
-        tags.add(new Tag(tagName));
+    public Person withTag(String tagName) {
+        Set<Tag> newTags = new HashSet<>(tags);
+        newTags.add(Tag.of(tagName));
+        return withTags(newTags);
     }
 
     /**
      * Returns true if the person has a student tag.
      */
     public boolean hasStudentTag() {
-        if (tags != null) {
-            return tags.contains(new Tag("student"));
-        }
-        return false;
+        return tags.contains(STUDENT_TAG);
     }
 
     /**
-     * Removes a tag from the tag set
+     * Returns a copy of this person with the tag {@code tagName} removed from the tag set.
      */
-    public void removeTag(String tagName) {
-        tags.remove(new Tag(tagName));
+    public Person withoutTag(String tagName) {
+        Set<Tag> newTags = new HashSet<>(tags);
+        newTags.remove(Tag.of(tagName));
+        return withTags(newTags);
     }
 
+    /**
+     * Returns a copy of this person with {@code tags} as the tag set.
+     * Subclasses override this so that the copy keeps their type and extra fields.
+     */
+    protected Person withTags(Set<Tag> tags) {
+        return new Person(name, phone, email, address, tags);
+    }
 
     /**
      * Returns true if both persons have the same name.
@@ -130,8 +153,11 @@ public class Person implements Displayable {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, address, tags);
+        }
+        return hash;
     }
 
     @Override
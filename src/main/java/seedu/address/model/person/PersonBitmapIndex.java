@@ -0,0 +1,202 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.TutorialName;
+
+/**
+ * A bitmap index of the persons with each {@code Tag} and of the students in each tutorial.
+ * Every person in the list is given a small ordinal, which is the person's bit in each bitmap. Ordinals of
+ * removed persons are reused, so the bitmaps stay as dense as the list.
+ * Kept in sync by {@code UniquePersonList} as persons are added, edited and removed, so that tag and tutorial
+ * filters, counts and intersections are bitwise operations rather than scans over each person's tags.
+ *
+ * Persons are compared by identity, as they are stored in the person list.
+ */
+public class PersonBitmapIndex {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<TutorialName, BitSet> tutorialBitmaps = new HashMap<>();
+
+    /**
+     * Returns the ordinal of {@code person}, or -1 if the person is not in the index.
+     */
+    public int getOrdinal(Person person) {
+        Integer ordinal = ordinals.get(person);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns true if the bit of {@code person} is set in {@code bitmap}.
+     */
+    public boolean isInBitmap(Person person, BitSet bitmap) {
+        int ordinal = getOrdinal(person);
+        return ordinal >= 0 && bitmap.get(ordinal);
+    }
+
+    /**
+     * Returns a new bitmap of the persons with {@code tag}.
+     */
+    public BitSet getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        BitSet bitmap = tagBitmaps.get(tag);
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * Returns a new bitmap of the persons with a tag that starts with, ignoring case, any of {@code prefixes}.
+     */
+    public BitSet getPersonsWithAnyTagPrefix(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return unionOfMatchingBitmaps(tagBitmaps, tag -> tag.tagName, SearchKeys.foldKeywords(List.copyOf(prefixes)));
+    }
+
+    /**
+     * Returns a new bitmap of the students in the tutorial named {@code tutorialName}.
+     */
+    public BitSet getStudentsInTutorial(TutorialName tutorialName) {
+        requireNonNull(tutorialName);
+        BitSet bitmap = tutorialBitmaps.get(tutorialName);
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * Returns a new bitmap of the students in a tutorial with a name word that starts with, ignoring case,
+     * any of {@code prefixes}.
+     */
+    public BitSet getStudentsInAnyTutorialPrefix(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return unionOfMatchingBitmaps(tutorialBitmaps, tutorialName -> tutorialName.name,
+                SearchKeys.foldKeywords(List.copyOf(prefixes)));
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        BitSet bitmap = tagBitmaps.get(tag);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    /**
+     * Returns the number of persons with each tag in use.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        Map<Tag, Integer> counts = new HashMap<>();
+        tagBitmaps.forEach((tag, bitmap) -> counts.put(tag, bitmap.cardinality()));
+        return counts;
+    }
+
+    /**
+     * Returns the persons whose bits are set in {@code bitmap}, in ordinal order.
+     */
+    public List<Person> getPersons(BitSet bitmap) {
+        requireNonNull(bitmap);
+        List<Person> persons = new ArrayList<>(bitmap.cardinality());
+        for (int ordinal = bitmap.nextSetBit(0); ordinal >= 0 && ordinal < personsByOrdinal.size();
+                ordinal = bitmap.nextSetBit(ordinal + 1)) {
+            Person person = personsByOrdinal.get(ordinal);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Gives {@code person} an ordinal and sets its bit in the bitmaps of its tags and tutorial.
+     */
+    void add(Person person) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            freeOrdinals.clear(ordinal);
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+        if (person instanceof Student) {
+            tutorialBitmaps.computeIfAbsent(((Student) person).getTutorialName(), unused -> new BitSet())
+                    .set(ordinal);
+        }
+    }
+
+    /**
+     * Clears the bits of {@code person} and frees its ordinal for reuse.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+
+        for (Tag tag : person.getTags()) {
+            clearBit(tagBitmaps, tag, ordinal);
+        }
+        if (person instanceof Student) {
+            clearBit(tutorialBitmaps, ((Student) person).getTutorialName(), ordinal);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+        tagBitmaps.clear();
+        tutorialBitmaps.clear();
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        bitmaps.computeIfPresent(key, (unused, bitmap) -> {
+            bitmap.clear(ordinal);
+            return bitmap.isEmpty() ? null : bitmap;
+        });
+    }
+
+    private static <K> BitSet unionOfMatchingBitmaps(Map<K, BitSet> bitmaps, Function<K, String> keyName,
+            String[] foldedPrefixes) {
+        BitSet union = new BitSet();
+        for (Map.Entry<K, BitSet> entry : bitmaps.entrySet()) {
+            if (hasWordWithAnyPrefix(keyName.apply(entry.getKey()), foldedPrefixes)) {
+                union.or(entry.getValue());
+            }
+        }
+        return union;
+    }
+
+    private static boolean hasWordWithAnyPrefix(String name, String[] foldedPrefixes) {
+        for (String word : name.split("\\s+")) {
+            String foldedWord = SearchKeys.fold(word);
+            for (String foldedPrefix : foldedPrefixes) {
+                if (foldedWord.startsWith(foldedPrefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
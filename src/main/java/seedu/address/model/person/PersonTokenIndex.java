@@ -0,0 +1,236 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the case-folded words in each searchable field of a person to the persons
+ * whose field contains that word.
+ * Kept in sync by {@code UniquePersonList} as persons are added, edited and removed, so that whole-word
+ * keyword searches are answered by looking up posting sets rather than by scanning every person.
+ * The words of each field are kept sorted, so that the words starting with a given prefix form a
+ * contiguous range that can be found without comparing every word.
+ *
+ * Names and student IDs are also kept in a {@code BkTree} each, so that misspelt keywords can be matched
+ * against the words within a small edit distance of them. A tree is rebuilt from the words still in use once
+ * the words no longer used by any person outnumber them. Phone numbers and student IDs are kept in an
+ * {@code NGramIndex} each, so that they can be searched by any part, such as their last four digits.
+ *
+ * Posting sets hold the exact instances stored in the person list, compared by identity.
+ */
+public class PersonTokenIndex {
+
+    /**
+     * The fields of a person that are indexed.
+     */
+    public enum Field {
+        NAME, PHONE, EMAIL, ADDRESS, TAG, STUDENT_ID, TUTORIAL_NAME
+    }
+
+    /** The fields whose words can be looked up by edit distance. */
+    private static final Set<Field> FUZZY_FIELDS =
+            Collections.unmodifiableSet(EnumSet.of(Field.NAME, Field.STUDENT_ID));
+
+    /** The fields whose words can be looked up by substring. */
+    private static final Set<Field> SUBSTRING_FIELDS =
+            Collections.unmodifiableSet(EnumSet.of(Field.PHONE, Field.STUDENT_ID));
+
+    /** The fewest words no longer in use that a BK-tree holds before it can be rebuilt. */
+    private static final int MIN_STALE_FUZZY_WORDS = 64;
+
+    private final Map<Field, NavigableMap<String, Set<Person>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, BkTree> fuzzyWords = new EnumMap<>(Field.class);
+    private final Map<Field, NGramIndex> substringWords = new EnumMap<>(Field.class);
+
+    /**
+     * Constructs an empty {@code PersonTokenIndex}.
+     */
+    public PersonTokenIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+        for (Field field : FUZZY_FIELDS) {
+            fuzzyWords.put(field, new BkTree());
+        }
+        for (Field field : SUBSTRING_FIELDS) {
+            substringWords.put(field, new NGramIndex());
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains a word equal, ignoring case, to any of {@code keywords}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyWord(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            Set<Person> posting = fieldPostings.get(SearchKeys.fold(keyword.trim()));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains a word that starts with, ignoring case, any of
+     * {@code prefixes}. The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyWordPrefix(Field field, Collection<String> prefixes) {
+        requireNonNull(field);
+        requireNonNull(prefixes);
+        NavigableMap<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = newIdentitySet();
+        for (String prefix : prefixes) {
+            String foldedPrefix = SearchKeys.fold(prefix.trim());
+            if (foldedPrefix.isEmpty()) {
+                continue;
+            }
+            fieldPostings.subMap(foldedPrefix, true, foldedPrefix + Character.MAX_VALUE, false)
+                    .values().forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains a word that is at most {@code maxDistance} edits away
+     * from, ignoring case, any of {@code keywords}. Only names and student IDs can be searched in this way.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyWordNear(Field field, Collection<String> keywords, int maxDistance) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        if (!FUZZY_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Field " + field + " cannot be searched by edit distance");
+        }
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String foldedKeyword = SearchKeys.fold(keyword.trim());
+            if (foldedKeyword.isEmpty()) {
+                continue;
+            }
+            // words no longer used by any person may still be in the tree, but no longer have a posting set
+            fuzzyWords.get(field).forEachWithin(foldedKeyword, maxDistance, word -> {
+                Set<Person> posting = fieldPostings.get(word);
+                if (posting != null) {
+                    matches.addAll(posting);
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains a word that contains, ignoring case, any of
+     * {@code substrings}. Only phone numbers and student IDs can be searched in this way.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyWordContaining(Field field, Collection<String> substrings) {
+        requireNonNull(field);
+        requireNonNull(substrings);
+        if (!SUBSTRING_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Field " + field + " cannot be searched by substring");
+        }
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = newIdentitySet();
+        for (String substring : substrings) {
+            String foldedSubstring = SearchKeys.fold(substring.trim());
+            if (foldedSubstring.isEmpty()) {
+                continue;
+            }
+            substringWords.get(field).forEachWordContaining(foldedSubstring,
+                    word -> matches.addAll(fieldPostings.get(word)));
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the words in the searchable fields of {@code person} to the index.
+     */
+    void add(Person person) {
+        person.getSearchKeys().forEachWord((field, word) -> {
+            postings.get(field).computeIfAbsent(word, unused -> newIdentitySet()).add(person);
+            if (FUZZY_FIELDS.contains(field)) {
+                fuzzyWords.get(field).add(word);
+            }
+            if (SUBSTRING_FIELDS.contains(field)) {
+                substringWords.get(field).add(word);
+            }
+        });
+    }
+
+    /**
+     * Removes the words in the searchable fields of {@code person} from the index.
+     */
+    void remove(Person person) {
+        person.getSearchKeys().forEachWord((field, word) -> {
+            Set<Person> posting = postings.get(field).computeIfPresent(word, (unused, wordPosting) -> {
+                wordPosting.remove(person);
+                return wordPosting.isEmpty() ? null : wordPosting;
+            });
+            if (posting == null && SUBSTRING_FIELDS.contains(field)) {
+                substringWords.get(field).remove(word);
+            }
+        });
+        for (Field field : FUZZY_FIELDS) {
+            rebuildFuzzyWordsIfStale(field);
+        }
+    }
+
+    /**
+     * Rebuilds the BK-tree of {@code field} from the words still in use, if the words no longer used by any
+     * person outnumber them. Rebuilding only then keeps its cost to a constant per removal, on average.
+     */
+    private void rebuildFuzzyWordsIfStale(Field field) {
+        Set<String> wordsInUse = postings.get(field).keySet();
+        int staleWordCount = fuzzyWords.get(field).size() - wordsInUse.size();
+        if (staleWordCount < MIN_STALE_FUZZY_WORDS || staleWordCount <= wordsInUse.size()) {
+            return;
+        }
+
+        BkTree rebuilt = new BkTree();
+        wordsInUse.forEach(rebuilt::add);
+        fuzzyWords.put(field, rebuilt);
+    }
+
+    /**
+     * Returns the number of words kept for edit-distance lookups in {@code field}, including words no longer
+     * used by any person.
+     */
+    int getFuzzyWordCount(Field field) {
+        return fuzzyWords.get(field).size();
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        postings.values().forEach(Map::clear);
+        for (Field field : FUZZY_FIELDS) {
+            fuzzyWords.put(field, new BkTree());
+        }
+        for (Field field : SUBSTRING_FIELDS) {
+            substringWords.put(field, new NGramIndex());
+        }
+    }
+
+    /**
+     * Returns an empty, modifiable set that compares persons by identity.
+     */
+    static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,18 +3,31 @@ package seedu.address.model.person;
 import static seedu.address.model.person.Phone.NULL_INPUT;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as parts of each person's phone number.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = index.getPersonsWithAnyWordContaining(PersonTokenIndex.Field.PHONE, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -23,8 +36,7 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
             return false;
         }
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getPhone().value, keyword));
+        return person.getSearchKeys().hasAnyWordContaining(PersonTokenIndex.Field.PHONE, foldedKeywords);
     }
 
     @Override
@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.person.PersonTokenIndex.Field;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The case-folded words of each searchable field of a person.
+ * Computed once per {@code Person}, so that keyword searches compare against ready-split words instead of
+ * splitting and case-converting the person's fields on every test.
+ */
+public class SearchKeys {
+
+    private static final String[] NO_WORDS = new String[0];
+
+    private final String[][] wordsByField = new String[Field.values().length][];
+
+    private SearchKeys(Person person) {
+        setWords(Field.NAME, person.getName().fullName);
+        setWords(Field.PHONE, person.getPhone().value);
+        setWords(Field.EMAIL, person.getEmail().value);
+        setWords(Field.ADDRESS, person.getAddress().value);
+        List<String> tagWords = new ArrayList<>();
+        for (Tag tag : person.getTags()) {
+            for (String word : split(tag.tagName)) {
+                tagWords.add(word);
+            }
+        }
+        wordsByField[Field.TAG.ordinal()] = tagWords.toArray(NO_WORDS);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            setWords(Field.STUDENT_ID, student.getStudentId().id);
+            setWords(Field.TUTORIAL_NAME, student.getTutorialName().name);
+        } else {
+            wordsByField[Field.STUDENT_ID.ordinal()] = NO_WORDS;
+            wordsByField[Field.TUTORIAL_NAME.ordinal()] = NO_WORDS;
+        }
+    }
+
+    /**
+     * Returns the search keys of {@code person}.
+     * Callers should use {@code Person#getSearchKeys()}, which computes them only once.
+     */
+    static SearchKeys of(Person person) {
+        return new SearchKeys(person);
+    }
+
+    /**
+     * Returns the case-folded form of {@code word} that search keys are compared in.
+     */
+    public static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the trimmed, case-folded forms of the non-blank {@code keywords}.
+     */
+    public static String[] foldKeywords(List<String> keywords) {
+        List<String> folded = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty()) {
+                folded.add(fold(trimmed));
+            }
+        }
+        return folded.toArray(NO_WORDS);
+    }
+
+    /**
+     * Returns true if {@code field} has a word equal to any of the already case-folded {@code foldedWords}.
+     */
+    public boolean hasAnyWord(Field field, String[] foldedWords) {
+        for (String word : wordsByField[field.ordinal()]) {
+            for (String foldedWord : foldedWords) {
+                if (word.equals(foldedWord)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code field} has a word starting with any of the already case-folded {@code foldedPrefixes}.
+     */
+    public boolean hasAnyWordWithPrefix(Field field, String[] foldedPrefixes) {
+        for (String word : wordsByField[field.ordinal()]) {
+            for (String foldedPrefix : foldedPrefixes) {
+                if (word.startsWith(foldedPrefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code field} has a word containing any of the already case-folded {@code foldedSubstrings}.
+     */
+    public boolean hasAnyWordContaining(Field field, String[] foldedSubstrings) {
+        for (String word : wordsByField[field.ordinal()]) {
+            for (String foldedSubstring : foldedSubstrings) {
+                if (word.contains(foldedSubstring)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code field} has a word that is at most {@code maxDistance} edits away from the
+     * already case-folded {@code foldedWord}.
+     */
+    public boolean hasWordNear(Field field, String foldedWord, int maxDistance) {
+        for (String word : wordsByField[field.ordinal()]) {
+            if (Math.abs(word.length() - foldedWord.length()) <= maxDistance
+                    && BkTree.editDistance(word, foldedWord) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes each field together with each of its words to {@code consumer}.
+     */
+    void forEachWord(BiConsumer<Field, String> consumer) {
+        for (Field field : Field.values()) {
+            for (String word : wordsByField[field.ordinal()]) {
+                consumer.accept(field, word);
+            }
+        }
+    }
+
+    private void setWords(Field field, String value) {
+        wordsByField[field.ordinal()] = split(value);
+    }
+
+    private static String[] split(String value) {
+        List<String> words = new ArrayList<>();
+        for (String word : value.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(fold(word));
+            }
+        }
+        return words.toArray(NO_WORDS);
+    }
+}
@@ -20,6 +20,9 @@ public class Student extends Person {
     private final NusNetId nusNetId;
     private final TutorialName tutName;
 
+    // Cached hash code, computed on first use as every field is immutable
+    private int hash;
+
     /**
      * Every field must be present and not null.
      *
@@ -63,6 +66,21 @@ public class Student extends Person {
         return displayType;
     }
 
+    @Override
+    public Student withTag(String tagName) {
+        return (Student) super.withTag(tagName);
+    }
+
+    @Override
+    public Student withoutTag(String tagName) {
+        return (Student) super.withoutTag(tagName);
+    }
+
+    @Override
+    protected Student withTags(Set<Tag> tags) {
+        return new Student(getName(), getPhone(), getEmail(), getAddress(), tags, nusNetId, tutName);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -85,8 +103,11 @@ public class Student extends Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getTags(), nusNetId, tutName);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getTags(), nusNetId, tutName);
+        }
+        return hash;
     }
 
     @Override
@@ -3,18 +3,31 @@ package seedu.address.model.person;
 import static seedu.address.model.person.NusNetId.NULL_INPUT;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Student}'s {@code NusNetId} matches any of the keywords given.
  */
 public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public StudentIdContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as parts of each person's student ID.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = index.getPersonsWithAnyWordContaining(PersonTokenIndex.Field.STUDENT_ID, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -23,12 +36,7 @@ public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
             return false;
         }
-        if (person instanceof Student) {
-            Student student = (Student) person;
-            return keywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(student.getStudentId().id, keyword));
-        }
-        return false;
+        return person.getSearchKeys().hasAnyWordContaining(PersonTokenIndex.Field.STUDENT_ID, foldedKeywords);
     }
 
     @Override
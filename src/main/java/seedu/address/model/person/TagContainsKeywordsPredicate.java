@@ -3,18 +3,31 @@ package seedu.address.model.person;
 import static seedu.address.model.tag.Tag.NULL_INPUT;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as prefixes of the words in each person's tags.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = index.getPersonsWithAnyWordPrefix(PersonTokenIndex.Field.TAG, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -23,11 +36,7 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
             return false;
         }
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags()
-                                            .stream()
-                                            .anyMatch(tag -> StringUtil
-                                                    .containsPartialWordIgnoreCase(tag.tagName, keyword)));
+        return person.getSearchKeys().hasAnyWordWithPrefix(PersonTokenIndex.Field.TAG, foldedKeywords);
     }
 
     @Override
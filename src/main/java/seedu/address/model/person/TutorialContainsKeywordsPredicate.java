@@ -3,18 +3,31 @@ package seedu.address.model.person;
 import static seedu.address.model.tutorial.TutorialName.NULL_INPUT;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@Code Tutorial}'s {@Code TutorialName} matches any of the keywords given.
  */
 public class TutorialContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public TutorialContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons in {@code index} as this one,
+     * found by looking up the keywords as prefixes of the words in each person's tutorial name.
+     */
+    public LookedUpPredicate withIndex(PersonTokenIndex index) {
+        if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
+            return new LookedUpPredicate(Set.of(), this);
+        }
+        Set<Person> matches = index.getPersonsWithAnyWordPrefix(PersonTokenIndex.Field.TUTORIAL_NAME, keywords);
+        return new LookedUpPredicate(matches, this);
     }
 
     @Override
@@ -23,13 +36,7 @@ public class TutorialContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.size() == 1 && keywords.get(0).equals(NULL_INPUT)) {
             return false;
         }
-        if (person instanceof Student) {
-            Student student = (Student) person;
-            return keywords.stream()
-                    .anyMatch(keyword -> StringUtil
-                            .containsPartialWordIgnoreCase(student.getTutorialName().name, keyword));
-        }
-        return false;
+        return person.getSearchKeys().hasAnyWordWithPrefix(PersonTokenIndex.Field.TUTORIAL_NAME, foldedKeywords);
     }
 
     @Override
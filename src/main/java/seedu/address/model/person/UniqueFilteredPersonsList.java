@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,12 +30,15 @@ public class UniqueFilteredPersonsList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Names of the persons in internalList, as that is what Person#isSamePerson(Person) compares.
+    private final Set<Name> names = new HashSet<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -46,6 +51,7 @@ public class UniqueFilteredPersonsList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        names.add(toAdd.getName());
     }
 
     /**
@@ -54,7 +60,8 @@ public class UniqueFilteredPersonsList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!filteredPersonsAreUnique(persons)) {
+        if (!buildNames(persons)) {
+            buildNames(internalList);
             throw new DuplicatePersonException();
         }
 
@@ -86,14 +93,14 @@ public class UniqueFilteredPersonsList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code filteredPersons} contains only unique persons.
+     * Replaces the set of names with the names in {@code filteredPersons} in a single pass.
+     * Returns false as soon as two persons are found to be the same person.
      */
-    private boolean filteredPersonsAreUnique(List<Person> filteredPersons) {
-        for (int i = 0; i < filteredPersons.size() - 1; i++) {
-            for (int j = i + 1; j < filteredPersons.size(); j++) {
-                if (filteredPersons.get(i).isSamePerson(filteredPersons.get(j))) {
-                    return false;
-                }
+    private boolean buildNames(List<Person> filteredPersons) {
+        names.clear();
+        for (Person person : filteredPersons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +24,11 @@ import seedu.address.model.tutorial.TutorialName;
  *
  * Supports a minimal set of list operations.
  *
+ * Lookups by name, email, phone and student ID are answered from hash indexes that are kept in sync with
+ * the backing list, so they do not need to scan the list. Whole-word keyword searches are answered from
+ * a {@code PersonTokenIndex}, and tag and tutorial filters from a {@code PersonBitmapIndex}, both kept in
+ * sync in the same way.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -30,12 +37,20 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Secondary indexes over internalList, updated on every change to it.
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    private final Map<NusNetId, Student> studentsById = new HashMap<>();
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
+    private final PersonBitmapIndex bitmapIndex = new PersonBitmapIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,17 +58,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Student getStudentWithId(NusNetId id) {
         requireNonNull(id);
-        for (int i = 0; i < internalList.size(); i++) {
-            Person p = internalList.get(i);
-            if (!(p instanceof Student)) {
-                continue;
-            }
-            Student s = (Student) p;
-            if (s.getStudentId().equals(id)) {
-                return s;
-            }
+        Student student = studentsById.get(id);
+        if (student == null) {
+            throw new StudentNotFoundException();
         }
-        throw new StudentNotFoundException();
+        return student;
+    }
+
+    /**
+     * Returns true if the list contains a student with the same student id as {@code id}.
+     */
+    public boolean hasStudentWithId(NusNetId id) {
+        requireNonNull(id);
+        return studentsById.containsKey(id);
     }
 
     /**
@@ -66,6 +83,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -85,7 +103,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -94,14 +114,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -110,13 +133,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        if (!buildIndexes(persons)) {
+            rebuildIndexes();
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the word index over the persons in the list.
+     */
+    public PersonTokenIndex getTokenIndex() {
+        return tokenIndex;
+    }
+
+    /**
+     * Returns the tag and tutorial bitmap index over the persons in the list.
+     */
+    public PersonBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -142,15 +180,59 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to the lookup indexes.
+     */
+    private void addToIndexes(Person person) {
+        personsByName.put(person.getName(), person);
+        emailCounts.merge(person.getEmail(), 1, Integer::sum);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            studentsById.put(student.getStudentId(), student);
+        }
+        tokenIndex.add(person);
+        bitmapIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the lookup indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        personsByName.remove(person.getName(), person);
+        emailCounts.computeIfPresent(person.getEmail(), (email, count) -> count > 1 ? count - 1 : null);
+        phoneCounts.computeIfPresent(person.getPhone(), (phone, count) -> count > 1 ? count - 1 : null);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            studentsById.remove(student.getStudentId(), student);
+        }
+        tokenIndex.remove(person);
+        bitmapIndex.remove(person);
+    }
+
+    /**
+     * Rebuilds the lookup indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        buildIndexes(internalList);
+    }
+
+    /**
+     * Replaces the lookup indexes with ones built from {@code persons} in a single pass.
+     * Returns false, leaving the indexes partially built, as soon as two persons are found to be
+     * the same person, as defined by {@code Person#isSamePerson(Person)}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private boolean buildIndexes(List<Person> persons) {
+        personsByName.clear();
+        emailCounts.clear();
+        phoneCounts.clear();
+        studentsById.clear();
+        tokenIndex.clear();
+        bitmapIndex.clear();
+        for (Person person : persons) {
+            if (personsByName.containsKey(person.getName())) {
+                return false;
             }
+            addToIndexes(person);
         }
         return true;
     }
@@ -161,7 +243,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasPersonWithName(Name name) {
         requireNonNull(name);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name));
+        return personsByName.containsKey(name);
     }
 
     /**
@@ -169,7 +251,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasPersonWithEmail(Email email) {
         requireNonNull(email);
-        return internalList.stream().anyMatch(person -> person.getEmail().equals(email));
+        return emailCounts.containsKey(email);
     }
 
     /**
@@ -177,19 +259,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasPersonWithPhone(Phone phone) {
         requireNonNull(phone);
-        return internalList.stream().anyMatch(person -> person.getPhone().equals(phone));
+        return phoneCounts.containsKey(phone);
     }
 
     /**
-     * Runs through the all contents in this list to find the person with
-     * name matching given {@code name}.
+     * Returns the person with name matching given {@code name}.
      */
     public Person getPersonWithName(Name name) {
         requireNonNull(name);
-        Person person = internalList.stream()
-                .filter(p -> p.getName().equals(name))
-                .findAny()
-                .orElse(null);
+        Person person = personsByName.get(name);
 
         if (person == null) {
             throw new PersonNotFoundException();
@@ -198,22 +276,24 @@ public class UniquePersonList implements Iterable<Person> {
 
     }
 
-    public NusNetId getIdOfStudent(Name studentName) {
+    /**
+     * Returns the student with name matching given {@code studentName}.
+     */
+    public Student getStudentWithName(Name studentName) {
         requireNonNull(studentName);
         Person person = getPersonWithName(studentName);
         if (!(person instanceof Student)) {
             throw new StudentNotFoundException();
         }
-        return ((Student) person).getStudentId();
+        return (Student) person;
+    }
+
+    public NusNetId getIdOfStudent(Name studentName) {
+        return getStudentWithName(studentName).getStudentId();
     }
 
     public TutorialName getTutorialNameOfStudent(Name studentName) {
-        requireNonNull(studentName);
-        Person person = getPersonWithName(studentName);
-        if (!(person instanceof Student)) {
-            throw new StudentNotFoundException();
-        }
-        return ((Student) person).getTutorialName();
+        return getStudentWithName(studentName).getTutorialName();
     }
 
 }
@@ -1,84 +1,109 @@
 package seedu.address.model.person;
 
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
 import static seedu.address.model.person.Student.isStudent;
 
-import java.util.function.Predicate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.tutorial.TutorialName;
 
 /**
- * A list of students in a Tutorial.
- * Updated automatically when changes are made to the modelManager's allStudents list.
+ * A roster of the students in a Tutorial, indexed by student ID.
+ * Kept up to date by the address book as students join, leave or are edited, so that
+ * membership queries do not need to scan every person in the address book.
  */
 public class UniqueStudentsInTutorialList {
+    private final Map<NusNetId, Student> studentsById = new LinkedHashMap<>();
+    private final Map<Name, Student> studentsByName = new HashMap<>();
+    private final TutorialName tutorialName;
+
     /**
-     * This list should contain only Student objects.
+     * Constructs an empty UniqueStudentsInTutorialList.
+     *
+     * @param tutName the TutorialName.
      */
-    private final FilteredList<Person> studentsInClass;
-    private final TutorialName tutorialName;
+    public UniqueStudentsInTutorialList(TutorialName tutName) {
+        requireNonNull(tutName);
+        tutorialName = tutName;
+    }
 
     /**
-     * Constructs a UniqueStudentsInTutorialList.
+     * Constructs a UniqueStudentsInTutorialList from the students in {@code allStudents}
+     * who are in the tutorial.
      *
-     * @param allStudents the ModelManager's allStudents list, containing all Students in the addressbook.
+     * @param allStudents a list of persons, containing all Students in the addressbook.
      * @param tutName the TutorialName.
      */
+    public UniqueStudentsInTutorialList(List<Person> allStudents, TutorialName tutName) {
+        this(tutName);
+        requireNonNull(allStudents);
+        for (Person person : allStudents) {
+            if (isStudent(person) && ((Student) person).isInTutorial(tutName)) {
+                add((Student) person);
+            }
+        }
+    }
 
-    public UniqueStudentsInTutorialList(ObservableList<Person> allStudents, TutorialName tutName) {
-        requireAllNonNull(allStudents, tutName);
-        studentsInClass = createStudentsList(allStudents, tutName);
-        tutorialName = tutName;
+    /**
+     * Adds {@code student} to the roster, replacing any student with the same student ID.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        Student replaced = studentsById.put(student.getStudentId(), student);
+        if (replaced != null) {
+            studentsByName.remove(replaced.getName(), replaced);
+        }
+        studentsByName.put(student.getName(), student);
     }
 
-    private FilteredList<Person> createStudentsList(ObservableList<Person> allStudents, TutorialName tutName) {
-        Predicate<Person> predicateShowStudentsInTutorial = x -> isStudent(x)
-                && ((Student) x).isInTutorial(tutName);
-        return new FilteredList<Person>(allStudents, predicateShowStudentsInTutorial);
+    /**
+     * Removes the student with {@code studentId} from the roster, if present.
+     */
+    public void remove(NusNetId studentId) {
+        requireNonNull(studentId);
+        Student removed = studentsById.remove(studentId);
+        if (removed != null) {
+            studentsByName.remove(removed.getName(), removed);
+        }
     }
 
     /**
      * Returns true if the list contains person with an equivalent student name as the argument,
-     * uses {@code Person#isSamePerson(Person)}
+     * as defined by {@code Person#isSamePerson(Person)}
      */
     public boolean containsStudent(Student student) {
-        return studentsInClass.stream()
-                .anyMatch(x -> x.isSamePerson(student));
+        requireNonNull(student);
+        return studentsByName.containsKey(student.getName());
     }
 
     /**
      * Returns true if the list contains a student with a matching {@code studentId}.
      */
     public boolean containsStudentWithId(NusNetId studentId) {
-        for (int i = 0; i < studentsInClass.size(); i++) {
-            Student student = (Student) studentsInClass.get(i);
-            if (student.getStudentId().equals(studentId)) {
-                return true;
-            }
-        }
-        return false;
+        return studentsById.containsKey(studentId);
     }
 
     /**
-     * Returns the student in the list that has a matching {@code studentId}.
-     * @param studentId
-     * @return
+     * Returns the student in the list that has a matching {@code studentId},
+     * or null if there is no such student.
      */
     public Student getStudentWithId(NusNetId studentId) {
-        Student student;
-        for (int i = 0; i < studentsInClass.size(); i++) {
-            student = (Student) studentsInClass.get(i);
-            if (student.getStudentId().equals(studentId)) {
-                return student;
-            }
-        }
-        // execution should not reach this point
-        return null;
+        return studentsById.get(studentId);
+    }
+
+    public TutorialName getTutorialName() {
+        return tutorialName;
     }
 
-    public FilteredList<Person> getStudentsInClass() {
-        return studentsInClass;
+    /**
+     * Returns an unmodifiable view of the students in the tutorial, in the order they joined.
+     */
+    public Collection<Student> getStudentsInClass() {
+        return Collections.unmodifiableCollection(studentsById.values());
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents the day of week which a Tutorial is on in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
@@ -12,6 +14,9 @@ public class Day {
             + "or with 3-letter abbreviation";
     public static final String VALIDATION_REGEX = "(?i)(Monday|Tuesday|Wednesday|Thursday|"
             + "Friday|Saturday|Sunday|Mon|Tue|Wed|Thu|Fri|Sat|Sun)";
+
+    private static final Interner<Day> INTERNER = new Interner<>();
+
     public final String day;
 
     /**
@@ -25,6 +30,15 @@ public class Day {
         day = setProperDay(value);
     }
 
+    /**
+     * Returns the shared {@code Day} equal to {@code new Day(value)}.
+     *
+     * @param value represents the position of the day in the week.
+     */
+    public static Day of(String value) {
+        return INTERNER.intern(new Day(value));
+    }
+
     /**
      * Returns true if given String represents any day of the week spelt in full or 3-letter abbreviation.
      */
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.DisplayType;
 import seedu.address.model.Displayable;
 import seedu.address.model.assessment.Assessment;
@@ -62,6 +61,7 @@ public class Tutorial implements Displayable {
         day = d;
         time = t;
         this.weeks = weeks;
+        studentsList = new UniqueStudentsInTutorialList(name);
         assessmentResultsList = new AssessmentResultsList(name);
         attendanceList = new AttendanceList(new ArrayList<Attendance>(), weeks);
     }
@@ -76,7 +76,7 @@ public class Tutorial implements Displayable {
      * @param weeks the amount of weeks the tutorial is held for.
      * @param allStudents the allStudents list in the ModelManager.
      */
-    public Tutorial(TutorialName name, Venue v, Day d, Time t, int weeks, FilteredList<Person> allStudents) {
+    public Tutorial(TutorialName name, Venue v, Day d, Time t, int weeks, List<Person> allStudents) {
         requireAllNonNull(name, d, t, weeks, allStudents);
         tutorialName = name;
         venue = v;
@@ -86,6 +86,7 @@ public class Tutorial implements Displayable {
         studentsList = new UniqueStudentsInTutorialList(allStudents, name);
         assessmentResultsList = new AssessmentResultsList(name);
         attendanceList = new AttendanceList(new ArrayList<Attendance>(), weeks);
+        generateAttendance();
     }
 
     /**
@@ -99,6 +100,7 @@ public class Tutorial implements Displayable {
         day = d;
         time = t;
         this.weeks = weeks;
+        studentsList = new UniqueStudentsInTutorialList(name);
         attendanceList = attendance;
         assessmentResultsList = results;
     }
@@ -127,8 +129,13 @@ public class Tutorial implements Displayable {
         return attendanceList;
     }
 
-    public void setStudentsList(FilteredList<Person> allStudents) {
+    /**
+     * Rebuilds the roster from the students in {@code allStudents} who are in this tutorial,
+     * and brings the attendance records in line with it.
+     */
+    public void setStudentsList(List<Person> allStudents) {
         studentsList = new UniqueStudentsInTutorialList(allStudents, tutorialName);
+        generateAttendance();
     }
 
     public List<AssessmentResults> getUnmodifiableAssessmentResultsList() {
@@ -253,18 +260,38 @@ public class Tutorial implements Displayable {
 
     /**
      * Generates attendance records for students who do not have any records present in the list.
+     * Only needed when the whole students list is (re)attached to the tutorial.
      */
     public void generateAttendance() {
         attendanceList.generateAttendance(studentsList);
     }
 
+    /**
+     * Adds {@code student}, who has just joined the tutorial, to the roster together with a blank
+     * attendance record. If the student is already on the roster, their details are updated instead.
+     */
+    public void addStudent(Student student) {
+        requireNonNull(student);
+        studentsList.add(student);
+        attendanceList.addStudent(student.getName(), student.getStudentId());
+    }
+
+    /**
+     * Removes the student with {@code studentId}, who has just left the tutorial, from the roster
+     * together with their attendance record.
+     */
+    public void removeStudent(NusNetId studentId) {
+        requireNonNull(studentId);
+        studentsList.remove(studentId);
+        attendanceList.removeStudent(studentId);
+    }
+
     /**
      * Marks the attendance for the all students.
      *
      * @param week the week that the attendance should be marked for the student.
      */
     public void markAllAttendance(int week) {
-        generateAttendance();
         attendanceList.markAllAttendance(week);
     }
 
@@ -275,7 +302,6 @@ public class Tutorial implements Displayable {
      * @param week the week that the attendance should be marked for the student.
      */
     public void markStudentAttendance(NusNetId studentId, int week) {
-        generateAttendance();
         attendanceList.markAttendanceForStudent(studentId, week);
     }
 
@@ -285,7 +311,6 @@ public class Tutorial implements Displayable {
      * @param week the week that the attendance should be unmarked for the student.
      */
     public void unmarkAllAttendance(int week) {
-        generateAttendance();
         attendanceList.unmarkAllAttendance(week);
     }
 
@@ -296,7 +321,6 @@ public class Tutorial implements Displayable {
      * @param week the week that the attendance should be unmarked for the student.
      */
     public void unmarkStudentAttendance(NusNetId studentId, int week) {
-        generateAttendance();
         attendanceList.unmarkAttendanceForStudent(studentId, week);
     }
 
@@ -307,7 +331,6 @@ public class Tutorial implements Displayable {
      * @param comment the comment to be added.
      */
     public void addComment(Name studentName, Comment comment) {
-        generateAttendance();
         attendanceList.addComment(studentName, comment);
     }
 
@@ -317,7 +340,6 @@ public class Tutorial implements Displayable {
      * @param studentName the Name of a student.
      */
     public void removeComment(Name studentName) {
-        generateAttendance();
         attendanceList.removeComment(studentName);
     }
 
@@ -327,7 +349,6 @@ public class Tutorial implements Displayable {
      * @param studentName the NusNetId of a student.
      */
     public Comment viewComment(Name studentName) {
-        generateAttendance();
         return attendanceList.viewComment(studentName);
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents a Tutorial name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTutorialName(String)}
@@ -13,6 +15,8 @@ public class TutorialName {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
     public static final String NULL_INPUT = "NULL_INPUT";
 
+    private static final Interner<TutorialName> INTERNER = new Interner<>();
+
     public final String name;
 
     /**
@@ -26,6 +30,15 @@ public class TutorialName {
         name = value;
     }
 
+    /**
+     * Returns the shared {@code TutorialName} equal to {@code new TutorialName(value)}.
+     *
+     * @param value a tutorial name.
+     */
+    public static TutorialName of(String value) {
+        return INTERNER.intern(new TutorialName(value));
+    }
+
     /**
      * Returns true if given String is a valid class name.
      */
@@ -3,7 +3,9 @@ package seedu.address.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,9 +25,13 @@ import seedu.address.model.tutorial.exceptions.TutorialNotFoundException;
  * Tutorial with exactly the same fields is removed.
  * TODO: implement the remove and setter methods.
  *
+ * The tutorials are held in an insertion-ordered map keyed on {@code TutorialName}, which is mirrored by an
+ * observable list for the UI.
+ *
  * @see Tutorial#isSameTutorial(Tutorial)
  */
 public class UniqueTutorialList {
+    private final Map<TutorialName, Tutorial> tutorialsByName = new LinkedHashMap<>();
     private final ObservableList<Tutorial> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutorial> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
@@ -36,7 +42,7 @@ public class UniqueTutorialList {
      */
     public boolean contains(Tutorial toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTutorial);
+        return tutorialsByName.containsKey(toCheck.getTutorialName());
     }
 
     /**
@@ -48,6 +54,7 @@ public class UniqueTutorialList {
         if (contains(toAdd)) {
             throw new DuplicateTutorialException();
         }
+        tutorialsByName.put(toAdd.getTutorialName(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -57,9 +64,12 @@ public class UniqueTutorialList {
      */
     public void remove(Tutorial toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Tutorial existing = tutorialsByName.get(toRemove.getTutorialName());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new TutorialNotFoundException();
         }
+        tutorialsByName.remove(toRemove.getTutorialName());
+        internalList.remove(existing);
     }
 
     /**
@@ -80,6 +90,11 @@ public class UniqueTutorialList {
         }
 
         internalList.set(index, editedTutorial);
+        if (target.isSameTutorial(editedTutorial)) {
+            tutorialsByName.put(editedTutorial.getTutorialName(), editedTutorial);
+        } else {
+            rebuildIndex();
+        }
     }
 
     /**
@@ -95,18 +110,29 @@ public class UniqueTutorialList {
      */
     public void setTutorials(List<Tutorial> tutorials) {
         requireAllNonNull(tutorials);
-        if (!tutorialsAreUnique(tutorials)) {
+        if (!buildIndex(tutorials)) {
+            rebuildIndex();
             throw new DuplicateTutorialException();
         }
         internalList.setAll(tutorials);
     }
 
-    private boolean tutorialsAreUnique(List<Tutorial> tutorials) {
-        for (int i = 0; i < tutorials.size() - 1; i++) {
-            for (int j = i + 1; j < tutorials.size(); j++) {
-                if (tutorials.get(i).isSameTutorial(tutorials.get(j))) {
-                    return false;
-                }
+    /**
+     * Rebuilds the name index from the backing list, keeping the list order.
+     */
+    private void rebuildIndex() {
+        buildIndex(internalList);
+    }
+
+    /**
+     * Replaces the name index with one built from {@code tutorials} in a single pass.
+     * Returns false, leaving the index partially built, as soon as two tutorials share a name.
+     */
+    private boolean buildIndex(List<Tutorial> tutorials) {
+        tutorialsByName.clear();
+        for (Tutorial tutorial : tutorials) {
+            if (tutorialsByName.putIfAbsent(tutorial.getTutorialName(), tutorial) != null) {
+                return false;
             }
         }
         return true;
@@ -118,20 +144,18 @@ public class UniqueTutorialList {
      */
     public boolean containsTutorialWithName(TutorialName toCheckName) {
         requireNonNull(toCheckName);
-        return internalList.stream().anyMatch(x -> x.isSameTutorialName(toCheckName));
+        return tutorialsByName.containsKey(toCheckName);
     }
 
     /**
-     * Runs through the contents of this list to find the tutorial with
-     * tutorial name matching given {@code tutorialName}.
+     * Returns the tutorial with tutorial name matching given {@code tutorialName}.
      */
     public Tutorial getTutorialWithName(TutorialName tutorialName) {
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).getTutorialName().equals(tutorialName)) {
-                return internalList.get(i);
-            }
+        Tutorial tutorial = tutorialsByName.get(tutorialName);
+        if (tutorial == null) {
+            throw new TutorialNotFoundException();
         }
-        throw new TutorialNotFoundException();
+        return tutorial;
     }
 
     /**
@@ -141,8 +165,8 @@ public class UniqueTutorialList {
     public void addAssessment(Assessment assessment) {
         requireNonNull(assessment);
         AssessmentName name = assessment.getAssessmentName();
-        for (int i = 0; i < internalList.size(); i++) {
-            internalList.get(i).addAssessmentResults(new AssessmentResults(name));
+        for (Tutorial tutorial : tutorialsByName.values()) {
+            tutorial.addAssessmentResults(new AssessmentResults(name));
         }
     }
 
@@ -152,8 +176,8 @@ public class UniqueTutorialList {
      */
     public void removeAssessmentByName(AssessmentName name) {
         requireNonNull(name);
-        for (int i = 0; i < internalList.size(); i++) {
-            internalList.get(i).removeAssessmentResultsByName(name);
+        for (Tutorial tutorial : tutorialsByName.values()) {
+            tutorial.removeAssessmentResultsByName(name);
         }
     }
 
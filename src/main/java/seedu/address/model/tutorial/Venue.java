@@ -3,6 +3,8 @@ package seedu.address.model.tutorial;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.Interner;
+
 /**
  * Represents the venue which a Tutorial is hosted at in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidVenue(String)}
@@ -17,6 +19,8 @@ public class Venue {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Venue> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Venue {
         value = address;
     }
 
+    /**
+     * Returns the shared {@code Venue} equal to {@code new Venue(address)}.
+     *
+     * @param address A valid venue.
+     */
+    public static Venue of(String address) {
+        return INTERNER.intern(new Venue(address));
+    }
+
     /**
      * Returns true if a given string is a valid venue.
      */
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * The data of an address book as it was at one point in time, ready to be saved.
+ * Later changes to the address book do not affect the snapshot, so it can be saved on any thread.
+ */
+@FunctionalInterface
+public interface AddressBookSnapshot {
+
+    /**
+     * Saves the data in this snapshot.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void save() throws IOException;
+}
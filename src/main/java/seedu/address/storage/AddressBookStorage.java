@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a snapshot of the given {@link ReadOnlyAddressBook} as it is now, which saves it to {@code filePath}.
+     * @param addressBook cannot be null. Later changes to it do not affect the snapshot.
+     */
+    AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath);
+
 }
@@ -0,0 +1,428 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assessment.Assessment;
+import seedu.address.model.assessment.AssessmentName;
+import seedu.address.model.assessment.AssessmentResults;
+import seedu.address.model.assessment.AssessmentResultsList;
+import seedu.address.model.assessment.FullMark;
+import seedu.address.model.assessment.Score;
+import seedu.address.model.assessment.StudentResult;
+import seedu.address.model.assessment.UniqueAssessmentList;
+import seedu.address.model.assessment.Weightage;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.attendance.Comment;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NusNetId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutorial.Day;
+import seedu.address.model.tutorial.Time;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.tutorial.TutorialName;
+import seedu.address.model.tutorial.Venue;
+
+/**
+ * Reads and writes an address book in a compact binary format.
+ *
+ * The data starts with {@code MAGIC} and the format version, then holds the persons, the assessments and the
+ * tutorials, each list preceded by its length. Numbers are written as unsigned variable-length integers (varints),
+ * 7 bits to a byte, so small counts, weightages and scores take one or two bytes. A student's attendance is one
+ * varint with a bit for each week. Strings are kept in a table built up as they are written: the first time a
+ * string appears it is written out in full, and afterwards only its index in the table is written, so the names,
+ * student IDs and tags repeated across persons, attendance and results are each stored once.
+ *
+ * Values read back are checked against the same constraints as those read from the JSON data file.
+ */
+class BinaryAddressBookFormat {
+
+    /** Identifies a binary address book file: "cNUS". */
+    public static final int MAGIC = 0x634E5553;
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED = "Binary address book file is corrupted";
+
+    private static final int PERSON = 0;
+    private static final int STUDENT = 1;
+
+    private static final int NEW_STRING = 0;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, DataOutput out) throws IOException {
+        new Writer(out).writeAddressBook(addressBook);
+    }
+
+    /**
+     * Reads an address book from the {@code length} bytes left in {@code in}.
+     *
+     * @throws IOException if the data is not a binary address book of a supported version, is cut short, or holds
+     *     a length that runs past its end.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(DataInput in, long length) throws IOException, IllegalValueException {
+        return new Reader(in, length).readAddressBook();
+    }
+
+    /**
+     * Writes the parts of an address book, keeping the table of strings written so far.
+     */
+    private static class Writer {
+        private final DataOutput out;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        Writer(DataOutput out) {
+            this.out = out;
+        }
+
+        void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            out.writeInt(MAGIC);
+            writeVarint(VERSION);
+
+            writeVarint(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(person);
+            }
+
+            writeVarint(addressBook.getAssessmentList().size());
+            for (Assessment assessment : addressBook.getAssessmentList()) {
+                writeString(assessment.getAssessmentName().name);
+                writeVarint(assessment.getWeightage().weightage);
+                writeVarint(assessment.getFullMark().fullMark);
+            }
+
+            writeVarint(addressBook.getTutorialList().size());
+            for (Tutorial tutorial : addressBook.getTutorialList()) {
+                writeTutorial(tutorial);
+            }
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getAddress().value);
+            writeVarint(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(tag.tagName);
+            }
+
+            if (person instanceof Student) {
+                Student student = (Student) person;
+                writeVarint(STUDENT);
+                writeString(student.getStudentId().id);
+                writeString(student.getTutorialName().name);
+            } else {
+                writeVarint(PERSON);
+            }
+        }
+
+        private void writeTutorial(Tutorial tutorial) throws IOException {
+            writeString(tutorial.getTutorialName().name);
+            writeString(tutorial.getVenue().value);
+            writeString(tutorial.getDay().day);
+            writeString(tutorial.getTime().time);
+            writeVarint(tutorial.getWeeks());
+
+            AttendanceList attendanceList = tutorial.getAttendanceList();
+            writeVarint(attendanceList.getWeeks());
+            List<Attendance> attendances = attendanceList.getAttendances();
+            writeVarint(attendances.size());
+            for (Attendance attendance : attendances) {
+                writeString(attendance.getStudentName().fullName);
+                writeString(attendance.getStudentId().id);
+                writeString(attendance.getComment().getCommentString());
+                writeVarint(attendance.getWeeks());
+                writeVarLong(attendance.getPresentWeeks());
+            }
+
+            List<AssessmentResults> resultsList = tutorial.getUnmodifiableAssessmentResultsList();
+            writeVarint(resultsList.size());
+            for (AssessmentResults results : resultsList) {
+                writeString(results.getAssessmentName().name);
+                List<StudentResult> studentResults = results.asUnmodifiableStudentResultsList();
+                writeVarint(studentResults.size());
+                for (StudentResult studentResult : studentResults) {
+                    writeString(studentResult.getStudentName().fullName);
+                    writeString(studentResult.getStudentId().id);
+                    writeVarint(studentResult.getScore().score);
+                }
+            }
+        }
+
+        /**
+         * Writes {@code value} in full if it has not been written before, or its index in the table otherwise.
+         */
+        private void writeString(String value) throws IOException {
+            Integer index = stringIndexes.get(value);
+            if (index != null) {
+                writeVarint(index + 1);
+                return;
+            }
+
+            stringIndexes.put(value, stringIndexes.size());
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarint(NEW_STRING);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeVarint(int value) throws IOException {
+            writeVarLong(Integer.toUnsignedLong(value));
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                out.writeByte((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte((int) remaining);
+        }
+    }
+
+    /**
+     * Reads the parts of an address book, keeping the table of strings read so far and the number of bytes left.
+     */
+    private static class Reader {
+        private final DataInput in;
+        private final List<String> strings = new ArrayList<>();
+        private long remainingBytes;
+
+        Reader(DataInput in, long length) {
+            this.in = in;
+            this.remainingBytes = length;
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException {
+            consume(Integer.BYTES);
+            if (in.readInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = readVarint();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            List<Person> persons = new ArrayList<>();
+            Set<Name> personNames = new HashSet<>();
+            for (int i = readVarint(); i > 0; i--) {
+                Person person = readPerson();
+                if (!personNames.add(person.getName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+            }
+
+            List<Assessment> assessments = new ArrayList<>();
+            UniqueAssessmentList assessmentList = new UniqueAssessmentList();
+            for (int i = readVarint(); i > 0; i--) {
+                Assessment assessment = readAssessment();
+                if (assessmentList.containsByName(assessment.getAssessmentName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ASSESSMENT);
+                }
+                assessmentList.add(assessment);
+                assessments.add(assessment);
+            }
+
+            List<Tutorial> tutorials = new ArrayList<>();
+            Set<TutorialName> tutorialNames = new HashSet<>();
+            for (int i = readVarint(); i > 0; i--) {
+                Tutorial tutorial = readTutorial(assessmentList);
+                if (!tutorialNames.add(tutorial.getTutorialName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TUTORIAL);
+                }
+                tutorials.add(tutorial);
+            }
+
+            return new AddressBook(persons, tutorials, assessments);
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            Name name = readName();
+            String phone = readString();
+            checkValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            String email = readString();
+            checkValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            String address = readString();
+            checkValid(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+
+            Set<Tag> tags = new HashSet<>();
+            for (int i = readVarint(); i > 0; i--) {
+                String tagName = readString();
+                checkValid(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+                tags.add(Tag.of(tagName));
+            }
+
+            int kind = readVarint();
+            if (kind == PERSON) {
+                return new Person(name, new Phone(phone), new Email(email), new Address(address), tags);
+            }
+            checkValid(kind == STUDENT, MESSAGE_CORRUPTED);
+            NusNetId studentId = readStudentId();
+            TutorialName tutorialName = readTutorialName();
+            return new Student(name, new Phone(phone), new Email(email), new Address(address), tags,
+                    studentId, tutorialName);
+        }
+
+        private Assessment readAssessment() throws IOException, IllegalValueException {
+            String name = readString();
+            checkValid(AssessmentName.isValidAssessmentName(name), AssessmentName.MESSAGE_CONSTRAINTS);
+            String weightage = String.valueOf(readVarint());
+            checkValid(Weightage.isValidWeightage(weightage), Weightage.MESSAGE_CONSTRAINTS);
+            String fullMark = String.valueOf(readVarint());
+            checkValid(FullMark.isValidFullMark(fullMark), FullMark.MESSAGE_CONSTRAINTS);
+            return new Assessment(AssessmentName.of(name), new Weightage(weightage), new FullMark(fullMark));
+        }
+
+        private Tutorial readTutorial(UniqueAssessmentList assessmentList) throws IOException, IllegalValueException {
+            TutorialName tutorialName = readTutorialName();
+            String venue = readString();
+            checkValid(Venue.isValidVenue(venue), Venue.MESSAGE_CONSTRAINTS);
+            String day = readString();
+            checkValid(Day.isValidDay(day), Day.MESSAGE_CONSTRAINTS);
+            String time = readString();
+            checkValid(Time.isValidTime(time), Time.MESSAGE_CONSTRAINTS);
+            int weeks = readWeeks();
+
+            int attendanceWeeks = readWeeks();
+            checkValid(attendanceWeeks == weeks, JsonAdaptedTutorial.INVALID_ATTENDANCE_WEEKS);
+            ArrayList<Attendance> attendances = new ArrayList<>();
+            for (int i = readVarint(); i > 0; i--) {
+                Name studentName = readName();
+                NusNetId studentId = readStudentId();
+                Comment comment = new Comment(readString());
+                int recordedWeeks = readVarint();
+                checkValid(recordedWeeks > 0 && recordedWeeks <= Attendance.MAX_WEEKS,
+                        Attendance.MESSAGE_TOO_MANY_WEEKS);
+                attendances.add(new Attendance(readVarLong(), recordedWeeks, studentName, studentId, comment));
+            }
+
+            AssessmentResultsList resultsList = new AssessmentResultsList(tutorialName);
+            for (int i = readVarint(); i > 0; i--) {
+                String assessmentName = readString();
+                checkValid(AssessmentName.isValidAssessmentName(assessmentName), AssessmentName.MESSAGE_CONSTRAINTS);
+                AssessmentName modelAssessmentName = AssessmentName.of(assessmentName);
+                checkValid(assessmentList.containsByName(modelAssessmentName), JsonAdaptedTutorial.MISSING_ASSESSMENT);
+                FullMark fullMark = assessmentList.getByName(modelAssessmentName).getFullMark();
+
+                AssessmentResults results = new AssessmentResults(modelAssessmentName);
+                for (int j = readVarint(); j > 0; j--) {
+                    Name studentName = readName();
+                    NusNetId studentId = readStudentId();
+                    String score = String.valueOf(readVarint());
+                    checkValid(Score.isValidScoreGivenFullMark(score, fullMark), Score.MESSAGE_CONSTRAINTS);
+                    results.add(new StudentResult(studentName, studentId, new Score(score, fullMark)));
+                }
+                resultsList.add(results);
+            }
+
+            return new Tutorial(tutorialName, Venue.of(venue), Day.of(day), new Time(time), weeks,
+                    new AttendanceList(attendances, weeks), resultsList);
+        }
+
+        private Name readName() throws IOException, IllegalValueException {
+            String name = readString();
+            checkValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            return Name.of(name);
+        }
+
+        private NusNetId readStudentId() throws IOException, IllegalValueException {
+            String studentId = readString();
+            checkValid(NusNetId.isValidId(studentId), NusNetId.MESSAGE_CONSTRAINTS);
+            return NusNetId.of(studentId);
+        }
+
+        private TutorialName readTutorialName() throws IOException, IllegalValueException {
+            String tutorialName = readString();
+            checkValid(TutorialName.isValidTutorialName(tutorialName), TutorialName.MESSAGE_CONSTRAINTS);
+            return TutorialName.of(tutorialName);
+        }
+
+        private int readWeeks() throws IOException, IllegalValueException {
+            int weeks = readVarint();
+            checkValid(weeks > 0 && weeks <= Attendance.MAX_WEEKS,
+                    JsonAdaptedAttendanceList.INVALID_FIELD_MESSAGE_FORMAT);
+            return weeks;
+        }
+
+        private String readString() throws IOException {
+            int index = readVarint();
+            if (index != NEW_STRING) {
+                if (index > strings.size()) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                return strings.get(index - 1);
+            }
+
+            int length = readVarint();
+            consume(length);
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            String value = new String(bytes, UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private int readVarint() throws IOException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return (int) value;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                consume(1);
+                byte b = in.readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        /**
+         * Accounts for the next {@code byteCount} bytes of the data, which must not run past its end.
+         */
+        private void consume(int byteCount) throws IOException {
+            if (byteCount > remainingBytes) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            remainingBytes -= byteCount;
+        }
+
+        private static void checkValid(boolean isValid, String message) throws IllegalValueException {
+            if (!isValid) {
+                throw new IllegalValueException(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An append-only journal of the commands executed since the address book was last saved, one command per line.
+ * Replaying the journal over the saved address book brings it up to date without rewriting the whole data file
+ * after every command.
+ *
+ * Commands that only change what is displayed are not written until the next command that changes data, as the
+ * indexes given to that command may refer to what they displayed. Writes are forced to the disk in groups of
+ * {@code SYNC_GROUP_SIZE} records, so a power failure can lose at most the last few commands.
+ *
+ * Once cleared, the journal starts with a checksum of the data file that its commands apply to. If the app stops
+ * after that file is saved again but before the journal is cleared, the checksum no longer matches, and the
+ * commands, which the file already reflects, are not replayed over it a second time.
+ */
+public class CommandJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    public static final int SYNC_GROUP_SIZE = 32;
+
+    private static final String BASE_CHECKSUM_PREFIX = "#base ";
+
+    private final Path filePath;
+    private final StringBuilder pendingCommands = new StringBuilder();
+
+    private FileChannel channel;
+    private int recordCount;
+    private int unsyncedRecordCount;
+
+    public CommandJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code addressBookFilePath}.
+     */
+    public static Path getJournalFilePath(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of data-changing commands written to the journal since it was last cleared.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the commands in the journal file, oldest first.
+     * A last line that was only partly written, as happens if the app stops during a write, is left out.
+     */
+    public List<String> readCommands() throws IOException {
+        List<String> commands = new ArrayList<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            return commands;
+        }
+
+        String content = FileUtil.readFromFile(filePath);
+        int lineStart = 0;
+        for (int lineEnd = content.indexOf('\n'); lineEnd != -1; lineEnd = content.indexOf('\n', lineStart)) {
+            String command = content.substring(lineStart, lineEnd).trim();
+            if (!command.isEmpty() && !command.startsWith(BASE_CHECKSUM_PREFIX)) {
+                commands.add(command);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return commands;
+    }
+
+    /**
+     * Returns true if the commands in the journal apply to the data file at {@code addressBookFilePath} as it is
+     * now, that is, if the file has not been saved since the journal was last cleared.
+     * A journal that has never been cleared applies to any data file.
+     */
+    public boolean isBasedOn(Path addressBookFilePath) throws IOException {
+        requireNonNull(addressBookFilePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return true;
+        }
+
+        String content = FileUtil.readFromFile(filePath);
+        if (!content.startsWith(BASE_CHECKSUM_PREFIX)) {
+            return true;
+        }
+        int lineEnd = content.indexOf('\n');
+        String baseChecksum = content.substring(BASE_CHECKSUM_PREFIX.length(),
+                lineEnd == -1 ? content.length() : lineEnd).trim();
+        return FileUtil.isFileExists(addressBookFilePath)
+                && baseChecksum.equals(getChecksum(addressBookFilePath));
+    }
+
+    /**
+     * Records that {@code commandText} has been executed.
+     * A command that only changes what is displayed is held back until the next command that changes data.
+     *
+     * @param isMutating true if the command may have changed the data in the address book.
+     */
+    public void append(String commandText, boolean isMutating) throws IOException {
+        requireNonNull(commandText);
+        checkArgument(commandText.indexOf('\n') == -1 && commandText.indexOf('\r') == -1,
+                "Journalled commands must fit on one line");
+
+        pendingCommands.append(commandText).append('\n');
+        if (!isMutating) {
+            return;
+        }
+
+        ByteBuffer record = ByteBuffer.wrap(pendingCommands.toString().getBytes(StandardCharsets.UTF_8));
+        pendingCommands.setLength(0);
+        FileChannel journalChannel = getChannel();
+        while (record.hasRemaining()) {
+            journalChannel.write(record);
+        }
+        recordCount++;
+
+        if (++unsyncedRecordCount >= SYNC_GROUP_SIZE) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces every record written so far to the disk.
+     */
+    public void sync() throws IOException {
+        if (channel != null && unsyncedRecordCount > 0) {
+            channel.force(false);
+        }
+        unsyncedRecordCount = 0;
+    }
+
+    /**
+     * Empties the journal, once the address book it applies to has been saved at {@code addressBookFilePath} with
+     * every command in it. Later commands are recorded as applying to that file as it is now.
+     */
+    public void clear(Path addressBookFilePath) throws IOException {
+        requireNonNull(addressBookFilePath);
+        String header = BASE_CHECKSUM_PREFIX + getChecksum(addressBookFilePath) + "\n";
+
+        pendingCommands.setLength(0);
+        FileChannel journalChannel = getChannel();
+        journalChannel.truncate(0);
+        ByteBuffer record = ByteBuffer.wrap(header.getBytes(StandardCharsets.UTF_8));
+        while (record.hasRemaining()) {
+            journalChannel.write(record);
+        }
+        journalChannel.force(false);
+        recordCount = 0;
+        unsyncedRecordCount = 0;
+    }
+
+    /**
+     * Forces every record to the disk and closes the journal file. The journal is reopened if written to again.
+     */
+    public void close() throws IOException {
+        sync();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private static String getChecksum(Path file) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return Long.toHexString(in.getChecksum().getValue());
+        }
+    }
+
+    private FileChannel getChannel() throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+}
@@ -49,7 +49,7 @@ public class JsonAdaptedAssessment {
         if (!AssessmentName.isValidAssessmentName(name)) {
             throw new IllegalValueException(AssessmentName.MESSAGE_CONSTRAINTS);
         }
-        final AssessmentName modelAssessmentName = new AssessmentName(name);
+        final AssessmentName modelAssessmentName = AssessmentName.of(name);
 
         if (weightage == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -52,7 +52,7 @@ public class JsonAdaptedAssessmentResults {
         if (!AssessmentName.isValidAssessmentName(assessmentName)) {
             throw new IllegalValueException(AssessmentName.MESSAGE_CONSTRAINTS);
         }
-        return new AssessmentName(assessmentName);
+        return AssessmentName.of(assessmentName);
     }
 
     /**
@@ -76,21 +76,27 @@ public class JsonAdaptedAttendance {
         if (!listValidityCheck(studentAttendance)) {
             throw new IllegalValueException("Attendance list is not valid!");
         }
+        if (studentAttendance.size() > Attendance.MAX_WEEKS) {
+            throw new IllegalValueException(Attendance.MESSAGE_TOO_MANY_WEEKS);
+        }
 
         if (comments == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Comment.class.getSimpleName()));
         }
 
-        final Name modelStudentName = new Name(studentName);
-        final NusNetId modelStudentId = new NusNetId(studentId);
-        final ArrayList<Integer> attendanceList = new ArrayList<>();
-        attendanceList.addAll(studentAttendance.stream()
-            .map(x -> Integer.parseInt(x))
-            .collect(Collectors.toList()));
+        final Name modelStudentName = Name.of(studentName);
+        final NusNetId modelStudentId = NusNetId.of(studentId);
+        long presentWeeks = 0L;
+        for (int i = 0; i < studentAttendance.size(); i++) {
+            if (studentAttendance.get(i).equals("1")) {
+                presentWeeks |= 1L << i;
+            }
+        }
         final Comment modelComment = new Comment(comments);
 
-        return new Attendance(attendanceList, modelStudentName, modelStudentId, modelComment);
+        return new Attendance(presentWeeks, studentAttendance.size(), modelStudentName, modelStudentId,
+                modelComment);
     }
 
     private boolean listValidityCheck(List<String> list) {
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceList;
 
 public class JsonAdaptedAttendanceList {
@@ -57,12 +58,11 @@ public class JsonAdaptedAttendanceList {
      * @throws IllegalValueException if there were any data constraints violated in the adapted attendance list.
      */
     public AttendanceList toModelType() throws IllegalValueException {
-        final AttendanceList modelAttendanceList = new AttendanceList(new ArrayList<>(), getWeeks());
-
+        final ArrayList<Attendance> modelAttendances = new ArrayList<>();
         for (JsonAdaptedAttendance studentAttendance : attendances) {
-            modelAttendanceList.getAttendances().add(studentAttendance.toModelType());
+            modelAttendances.add(studentAttendance.toModelType());
         }
 
-        return modelAttendanceList;
+        return new AttendanceList(modelAttendances, getWeeks());
     }
 }
@@ -97,7 +97,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -128,8 +128,8 @@ class JsonAdaptedPerson {
         if (studentId == null || tutorialName == null) {
             return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
         } else {
-            final NusNetId modelStudentId = new NusNetId(studentId);
-            final TutorialName modelTutorialName = new TutorialName(tutorialName);
+            final NusNetId modelStudentId = NusNetId.of(studentId);
+            final TutorialName modelTutorialName = TutorialName.of(tutorialName);
             return new Student(modelName, modelPhone, modelEmail, modelAddress, modelTags,
                     modelStudentId, modelTutorialName);
         }
@@ -53,7 +53,7 @@ public class JsonAdaptedStudentResult {
         if (!Name.isValidName(studentName)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(studentName);
+        final Name modelName = Name.of(studentName);
         if (studentId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     NusNetId.class.getSimpleName()));
@@ -61,7 +61,7 @@ public class JsonAdaptedStudentResult {
         if (!NusNetId.isValidId(studentId)) {
             throw new IllegalValueException(NusNetId.MESSAGE_CONSTRAINTS);
         }
-        final NusNetId modelId = new NusNetId(studentId);
+        final NusNetId modelId = NusNetId.of(studentId);
 
         if (score == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -86,7 +86,7 @@ class JsonAdaptedTutorial {
         if (!TutorialName.isValidTutorialName(tutorialName)) {
             throw new IllegalValueException(TutorialName.MESSAGE_CONSTRAINTS);
         }
-        final TutorialName modelTutorialName = new TutorialName(tutorialName);
+        final TutorialName modelTutorialName = TutorialName.of(tutorialName);
 
         if (venue == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Venue.class.getSimpleName()));
@@ -94,7 +94,7 @@ class JsonAdaptedTutorial {
         if (!Venue.isValidVenue(venue)) {
             throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
         }
-        final Venue modelVenue = new Venue(venue);
+        final Venue modelVenue = Venue.of(venue);
 
         if (day == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Day.class.getSimpleName()));
@@ -102,7 +102,7 @@ class JsonAdaptedTutorial {
         if (!Day.isValidDay(day)) {
             throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
         }
-        final Day modelDay = new Day(day);
+        final Day modelDay = Day.of(day);
 
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
@@ -4,23 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assessment.Assessment;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -45,18 +44,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readModelType);
     }
 
     @Override
@@ -73,8 +61,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterable<JsonAdaptedTutorial> tutorials = () -> addressBook.getTutorialList().stream()
+                .map(JsonAdaptedTutorial::new).iterator();
+        writeAddressBook(filePath, addressBook.getPersonList(), addressBook.getAssessmentList(), tutorials);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Persons and assessments are immutable, so only the lists holding them and the tutorials are copied.
+     */
+    @Override
+    public AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Assessment> assessments = new ArrayList<>(addressBook.getAssessmentList());
+        List<JsonAdaptedTutorial> tutorials = addressBook.getTutorialList().stream()
+                .map(JsonAdaptedTutorial::new).collect(Collectors.toList());
+        return () -> writeAddressBook(filePath, persons, assessments, tutorials);
+    }
+
+    private static void writeAddressBook(Path filePath, List<Person> persons, List<Assessment> assessments,
+                                         Iterable<JsonAdaptedTutorial> tutorials) throws IOException {
+        JsonUtil.writeJsonFile(filePath, generator ->
+                JsonSerializableAddressBook.write(generator, persons, assessments, tutorials));
     }
 
 }
@@ -1,22 +1,30 @@
 package seedu.address.storage;
 
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
-
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.assessment.Assessment;
+import seedu.address.model.assessment.UniqueAssessmentList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.tutorial.TutorialName;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -29,6 +37,9 @@ class JsonSerializableAddressBook {
             "Assessments list contains duplicate assessment(s).";
     public static final String MESSAGE_DUPLICATE_TUTORIAL = "Tutorials list contains duplicate tutorial(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TUTORIALS_FIELD = "tutorials";
+    private static final String ASSESSMENTS_FIELD = "assessments";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAssessment> assessments = new ArrayList<>();
@@ -38,9 +49,9 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons, tutorials and assessments.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("tutorials") List<JsonAdaptedTutorial> tutorials,
-                                       @JsonProperty("assessments") List<JsonAdaptedAssessment> assessments) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons,
+                                       @JsonProperty(TUTORIALS_FIELD) List<JsonAdaptedTutorial> tutorials,
+                                       @JsonProperty(ASSESSMENTS_FIELD) List<JsonAdaptedAssessment> assessments) {
         this.persons.addAll(persons);
         this.assessments.addAll(assessments);
         this.tutorials.addAll(tutorials);
@@ -64,35 +75,178 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ModelTypeBuilder builder = new ModelTypeBuilder();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            builder.addPerson(jsonAdaptedPerson);
+        }
+        for (JsonAdaptedAssessment jsonAdaptedAssessment : assessments) {
+            builder.addAssessment(jsonAdaptedAssessment);
+        }
+        builder.endAssessments();
+        for (JsonAdaptedTutorial jsonAdaptedTutorial : tutorials) {
+            builder.addTutorial(jsonAdaptedTutorial);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code parser}, converting each person,
+     * assessment and tutorial into the model's type as soon as it is read.
+     * Tutorials are held back until every assessment is read, so they are best written after the assessments.
+     *
+     * @throws IOException if the JSON is malformed or does not match this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book should be a JSON object");
+        }
+
+        ModelTypeBuilder builder = new ModelTypeBuilder();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case PERSONS_FIELD:
+                readArray(parser, JsonAdaptedPerson.class, builder::addPerson);
+                break;
+            case ASSESSMENTS_FIELD:
+                readArray(parser, JsonAdaptedAssessment.class, builder::addAssessment);
+                builder.endAssessments();
+                break;
+            case TUTORIALS_FIELD:
+                readArray(parser, JsonAdaptedTutorial.class, builder::addTutorial);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Address book is incomplete");
+        }
+
+        builder.endAssessments();
+        return builder.build();
+    }
+
+    /**
+     * Writes an address book with the given data to {@code generator} in the JSON format of this class,
+     * converting one person, assessment or tutorial at a time. Assessments are written before tutorials so that
+     * {@link #readModelType(JsonParser)} can convert each tutorial as soon as it is read.
+     */
+    public static void write(JsonGenerator generator, List<Person> persons, List<Assessment> assessments,
+                             Iterable<JsonAdaptedTutorial> tutorials) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(ASSESSMENTS_FIELD);
+        for (Assessment assessment : assessments) {
+            JsonUtil.writeValue(generator, new JsonAdaptedAssessment(assessment));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(TUTORIALS_FIELD);
+        for (JsonAdaptedTutorial tutorial : tutorials) {
+            JsonUtil.writeValue(generator, tutorial);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the JSON array at the current token of {@code parser} one element at a time, passing each element
+     * to {@code consumer}. A null array is read as an empty one.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> elementClass, ElementConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON array");
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Address book is incomplete");
+            }
+            consumer.accept(JsonUtil.readValue(parser, elementClass));
+        }
+    }
+
+    /**
+     * Accepts the elements of a JSON array as they are read.
+     */
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Converts persons, assessments and tutorials into the model's types as they are added, checking for
+     * duplicates, and builds an {@code AddressBook} from them.
+     * Tutorials added before {@link #endAssessments()} are only converted then, as their results are checked
+     * against the assessments.
+     */
+    private static class ModelTypeBuilder {
+        private final List<Person> modelPersons = new ArrayList<>();
+        private final Set<Name> personNames = new HashSet<>();
+        private final List<Assessment> modelAssessments = new ArrayList<>();
+        private final UniqueAssessmentList assessmentList = new UniqueAssessmentList();
+        private final List<Tutorial> modelTutorials = new ArrayList<>();
+        private final Set<TutorialName> tutorialNames = new HashSet<>();
+        private final List<JsonAdaptedTutorial> pendingTutorials = new ArrayList<>();
+        private boolean hasEndedAssessments;
+
+        void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (!personNames.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
-            addressBook.addLastShownItem(person);
+            modelPersons.add(person);
         }
 
-        for (JsonAdaptedAssessment jsonAdaptedAssessment : assessments) {
+        void addAssessment(JsonAdaptedAssessment jsonAdaptedAssessment) throws IllegalValueException {
             Assessment assessment = jsonAdaptedAssessment.toModelType();
-            if (addressBook.hasAssessment(assessment)) {
+            if (assessmentList.containsByName(assessment.getAssessmentName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ASSESSMENT);
             }
-            addressBook.addAssessment(assessment);
+            assessmentList.add(assessment);
+            modelAssessments.add(assessment);
         }
 
-        for (JsonAdaptedTutorial jsonAdaptedTutorial : tutorials) {
-            Tutorial tutorial = jsonAdaptedTutorial.toModelType(addressBook.getUniqueAssessmentList());
-            if (addressBook.hasTutorial(tutorial)) {
+        /**
+         * Marks every assessment as added, converting the tutorials held back until now.
+         */
+        void endAssessments() throws IllegalValueException {
+            hasEndedAssessments = true;
+            for (JsonAdaptedTutorial jsonAdaptedTutorial : pendingTutorials) {
+                addTutorial(jsonAdaptedTutorial);
+            }
+            pendingTutorials.clear();
+        }
+
+        void addTutorial(JsonAdaptedTutorial jsonAdaptedTutorial) throws IllegalValueException {
+            if (!hasEndedAssessments) {
+                pendingTutorials.add(jsonAdaptedTutorial);
+                return;
+            }
+            Tutorial tutorial = jsonAdaptedTutorial.toModelType(assessmentList);
+            if (!tutorialNames.add(tutorial.getTutorialName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TUTORIAL);
             }
-            addressBook.addTutorial(tutorial);
-            tutorial.setStudentsList(new FilteredList<>(addressBook.getPersonList(),
-                    PREDICATE_SHOW_ALL_STUDENTS));
+            modelTutorials.add(tutorial);
         }
 
-        return addressBook;
+        AddressBook build() {
+            return new AddressBook(modelPersons, modelTutorials, modelAssessments);
+        }
     }
 
 }
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes to storage on a background thread, so that the thread executing commands does not wait for the disk.
+ * Tasks run one at a time in the order they were submitted, a short delay after the first of them is submitted,
+ * so that a burst of commands is written together.
+ *
+ * A snapshot that is still waiting to be saved when a newer one is submitted is dropped, as the newer snapshot
+ * holds all of its data. The failure of a task is passed to the failure handler as soon as it happens, if one is
+ * set. Otherwise it is kept until it is reported by {@link #checkFailure()} or {@link #flush()}.
+ */
+public class PersistenceWorker {
+
+    public static final long DEFAULT_DELAY_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceWorker.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long delayMillis;
+
+    // Guarded by this
+    private final List<Task> pendingTasks = new ArrayList<>();
+    private Task pendingSnapshot;
+    private ScheduledFuture<?> scheduledRun;
+    private IOException failure;
+    private Consumer<IOException> failureHandler;
+
+    /**
+     * A write to storage, run on the background thread.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws IOException;
+    }
+
+    public PersistenceWorker() {
+        this(DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code PersistenceWorker} that runs submitted tasks {@code delayMillis} milliseconds after the
+     * first of them is submitted.
+     */
+    public PersistenceWorker(long delayMillis) {
+        checkArgument(delayMillis >= 0, "Delay should not be negative");
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Queues {@code task} to run after every task submitted before it.
+     */
+    public synchronized void submit(Task task) {
+        requireNonNull(task);
+        pendingTasks.add(task);
+        scheduleRun();
+    }
+
+    /**
+     * Queues {@code snapshotTask}, which saves a snapshot of all the data, to run after every task submitted before
+     * it. A snapshot task that has not started yet is dropped, as {@code snapshotTask} saves all of its data.
+     */
+    public synchronized void submitSnapshot(Task snapshotTask) {
+        requireNonNull(snapshotTask);
+        if (pendingSnapshot != null) {
+            pendingTasks.remove(pendingSnapshot);
+        }
+        pendingSnapshot = snapshotTask;
+        pendingTasks.add(snapshotTask);
+        scheduleRun();
+    }
+
+    /**
+     * Passes the failure of each task from now on to {@code failureHandler}, on the background thread.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Throws the failure of a task that has run since the last failure was reported, if any.
+     */
+    public synchronized void checkFailure() throws IOException {
+        IOException unreportedFailure = failure;
+        failure = null;
+        if (unreportedFailure != null) {
+            throw unreportedFailure;
+        }
+    }
+
+    /**
+     * Runs every submitted task that has not run yet and waits for them to finish.
+     *
+     * @throws IOException if one of those tasks failed, or a task has failed since the last failure was reported.
+     */
+    public void flush() throws IOException {
+        IOException flushFailure;
+        try {
+            flushFailure = executor.submit(this::runPendingTasks).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        checkFailure();
+        if (flushFailure != null) {
+            throw flushFailure;
+        }
+    }
+
+    /**
+     * Runs every submitted task that has not run yet, then stops the background thread.
+     * No tasks should be submitted afterwards.
+     *
+     * @throws IOException if a task has failed since the last failure was reported.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void scheduleRun() {
+        assert Thread.holdsLock(this);
+        if (scheduledRun == null) {
+            scheduledRun = executor.schedule(this::runPendingTasks, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs the submitted tasks and returns the last failure among them, if any.
+     */
+    private IOException runPendingTasks() {
+        List<Task> tasks;
+        synchronized (this) {
+            tasks = new ArrayList<>(pendingTasks);
+            pendingTasks.clear();
+            pendingSnapshot = null;
+            if (scheduledRun != null) {
+                scheduledRun.cancel(false);
+                scheduledRun = null;
+            }
+        }
+
+        IOException lastFailure = null;
+        for (Task task : tasks) {
+            try {
+                task.run();
+            } catch (IOException e) {
+                logger.warning("Failed to save data " + StringUtil.getDetails(e));
+                lastFailure = e;
+                reportFailure(e);
+            }
+        }
+        return lastFailure;
+    }
+
+    private void reportFailure(IOException e) {
+        Consumer<IOException> handler;
+        synchronized (this) {
+            handler = failureHandler;
+            if (handler == null) {
+                failure = e;
+                return;
+            }
+        }
+        handler.accept(e);
+    }
+}
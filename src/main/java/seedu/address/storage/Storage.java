@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +31,47 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the effect of {@code commandText}, which has just been executed on {@code addressBook}.
+     *
+     * @param isMutating true if the command may have changed the data in {@code addressBook}.
+     */
+    void saveCommand(String commandText, boolean isMutating, ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the commands executed since the address book was last saved in full, oldest first.
+     * No commands are returned if the data file has been saved since, as it already reflects them.
+     */
+    List<String> readJournal() throws IOException;
+
+    /**
+     * Similar to {@link #readJournal()}, for the address book read from the data file at
+     * {@code addressBookFilePath}, which may be in another format than this storage's.
+     */
+    List<String> readJournal(Path addressBookFilePath) throws IOException;
+
+    /**
+     * Saves {@code addressBook} in full, replacing the data file only once it has all been written, and then
+     * empties the command journal, whose commands it already reflects.
+     */
+    void compactJournal(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Waits until everything saved so far has been written to the disk.
+     * @throws IOException if any of it could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Waits until everything saved so far has been written to the disk, then stops saving.
+     * @throws IOException if any of it could not be written.
+     */
+    void close() throws IOException;
+
+    /**
+     * Passes the failure of each save that runs in the background from now on to {@code failureHandler}, as soon
+     * as it happens. The handler may be called on any thread.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler);
+
 }
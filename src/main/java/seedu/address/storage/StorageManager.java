@@ -2,11 +2,15 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -16,16 +20,45 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    public static final int COMPACTION_THRESHOLD = 500;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandJournal commandJournal;
+    private PersistenceWorker persistenceWorker;
+    private int uncompactedRecordCount;
+    // Set, on whichever thread writes the journal, once an append to it has failed
+    private volatile boolean isJournalFailed;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which saves the whole address book after every command.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which records commands in {@code commandJournal} and saves the whole address book only when compacting it.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CommandJournal commandJournal) {
+        this(addressBookStorage, userPrefsStorage, commandJournal, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which records commands in {@code commandJournal}, if given, and writes to the disk through
+     * {@code persistenceWorker}, if given, instead of on the calling thread.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CommandJournal commandJournal, PersistenceWorker persistenceWorker) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandJournal = commandJournal;
+        this.persistenceWorker = persistenceWorker;
     }
 
     // ================ UserPrefs methods ==============================
@@ -72,7 +105,190 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (persistenceWorker == null) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        persistenceWorker.submit(addressBookStorage.snapshotAddressBook(addressBook, filePath)::save);
+        persistenceWorker.flush();
+    }
+
+    @Override
+    public AddressBookSnapshot snapshotAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBookStorage.snapshotAddressBook(addressBook, filePath);
+    }
+
+    // ================ Command journal methods ==============================
+
+    /**
+     * {@inheritDoc}
+     * Without a command journal, the whole address book is saved, but only if the command may have changed it.
+     * Otherwise the command is appended to the journal, which is compacted once it holds
+     * {@code COMPACTION_THRESHOLD} records and every person is shown again, as a freshly loaded address book would
+     * show them, so that later commands replay the same way.
+     * Once an append to the journal fails, the journal is no longer written to, as it would miss a command. The
+     * address book is instead saved in full, waiting for the save to finish, and again after every later command
+     * that may change it.
+     * With a persistence worker, this only waits for a snapshot of the address book to be taken, and a failure
+     * to save an earlier command is passed to the failure handler, or reported here if there is none.
+     */
+    @Override
+    public void saveCommand(String commandText, boolean isMutating, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        if (commandJournal != null) {
+            appendToJournal(commandText, isMutating);
+        }
+
+        if (commandJournal != null && isJournalFailed) {
+            stopJournalling(addressBook);
+        } else if (commandJournal == null) {
+            if (isMutating) {
+                submitSnapshot(addressBook, () -> {});
+            }
+        } else {
+            if (isMutating) {
+                uncompactedRecordCount++;
+            }
+            if (uncompactedRecordCount >= COMPACTION_THRESHOLD
+                    && addressBook.getLastShownList().equals(addressBook.getPersonList())) {
+                compactJournal(addressBook);
+            }
+        }
+
+        if (persistenceWorker != null) {
+            persistenceWorker.checkFailure();
+        }
+    }
+
+    @Override
+    public List<String> readJournal() throws IOException {
+        return readJournal(getAddressBookFilePath());
+    }
+
+    @Override
+    public List<String> readJournal(Path addressBookFilePath) throws IOException {
+        if (commandJournal == null) {
+            return Collections.emptyList();
+        }
+        logger.fine("Attempting to read command journal: " + commandJournal.getFilePath());
+        if (!commandJournal.isBasedOn(addressBookFilePath)) {
+            logger.warning("The data file was saved after the command journal was last cleared, "
+                    + "so the commands in the journal are already in it");
+            return Collections.emptyList();
+        }
+        return commandJournal.readCommands();
+    }
+
+    @Override
+    public void compactJournal(ReadOnlyAddressBook addressBook) throws IOException {
+        if (commandJournal != null) {
+            logger.fine("Compacting command journal: " + commandJournal.getFilePath());
+        }
+        uncompactedRecordCount = 0;
+        Path filePath = getAddressBookFilePath();
+        CommandJournal journal = commandJournal;
+        submitSnapshot(addressBook, () -> {
+            if (journal != null) {
+                journal.clear(filePath);
+            }
+        });
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (commandJournal != null) {
+            submitOrRun(commandJournal::sync);
+        }
+        if (persistenceWorker != null) {
+            persistenceWorker.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (commandJournal != null) {
+            submitOrRun(commandJournal::close);
+        }
+        if (persistenceWorker != null) {
+            persistenceWorker.close();
+        }
+    }
+
+    @Override
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        if (persistenceWorker != null) {
+            persistenceWorker.setFailureHandler(failureHandler);
+        }
+    }
+
+    /**
+     * Appends {@code commandText} to the journal, unless an earlier append has failed.
+     */
+    private void appendToJournal(String commandText, boolean isMutating) {
+        CommandJournal journal = commandJournal;
+        try {
+            submitOrRun(() -> {
+                if (isJournalFailed) {
+                    return;
+                }
+                try {
+                    journal.append(commandText, isMutating);
+                } catch (IOException e) {
+                    isJournalFailed = true;
+                    throw e;
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Failed to write to the command journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops writing to the journal, which has missed a command, and saves {@code addressBook} in full instead,
+     * waiting for the save to finish.
+     * The journal is left as it is, but is not replayed once the data file has been saved.
+     */
+    private void stopJournalling(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.warning("Saving the address book in full, as the command journal could not be written to");
+        commandJournal = null;
+        if (persistenceWorker != null) {
+            try {
+                persistenceWorker.checkFailure();
+            } catch (IOException e) {
+                // the failed append, which the save below makes up for
+            }
+        }
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook} in full, then runs {@code afterSave} if the save succeeded.
+     * With a persistence worker, a snapshot of {@code addressBook} is saved later instead.
+     */
+    private void submitSnapshot(ReadOnlyAddressBook addressBook, PersistenceWorker.Task afterSave)
+            throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write to data file: " + filePath);
+        if (persistenceWorker == null) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            afterSave.run();
+            return;
+        }
+
+        AddressBookSnapshot snapshot = addressBookStorage.snapshotAddressBook(addressBook, filePath);
+        persistenceWorker.submitSnapshot(() -> {
+            snapshot.save();
+            afterSave.run();
+        });
+    }
+
+    private void submitOrRun(PersistenceWorker.Task task) throws IOException {
+        if (persistenceWorker == null) {
+            task.run();
+        } else {
+            persistenceWorker.submit(task);
+        }
     }
 
 }
@@ -25,10 +25,21 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> {});
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that also passes every change to the
+     * command text to {@code commandTextListener}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandTextListener commandTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            commandTextListener.commandTextChanged(newText);
+        });
     }
 
     /**
@@ -82,4 +93,15 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that is told about the command text as it is typed.
+     */
+    @FunctionalInterface
+    public interface CommandTextListener {
+        /**
+         * Handles the current text of the command box. Called on the JavaFX application thread.
+         */
+        void commandTextChanged(String commandText);
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -20,6 +21,7 @@ import seedu.address.model.tutorial.Tutorial;
 
 public class DisplayListPanel extends UiPart<Region> {
     private static final String FXML = "DisplayListPanel.fxml";
+    private static final String LIVE_FIND_STYLE_CLASS = "live-find";
     private final Logger logger = LogsCenter.getLogger(DisplayListPanel.class);
     private int attendanceWeek;
 
@@ -37,6 +39,21 @@ public class DisplayListPanel extends UiPart<Region> {
         displayListView.setCellFactory(listView -> new DisplayListPanel.DisplayListViewCell());
     }
 
+    /**
+     * Replaces the items shown in the panel with {@code displayList}.
+     */
+    public void setDisplayList(List<? extends Displayable> displayList) {
+        displayListView.getItems().setAll(displayList);
+    }
+
+    /**
+     * Marks the panel as showing a preview of live find results, which is styled apart from the indexed lists
+     * and shows no indexes.
+     */
+    public void setLiveFindPreview() {
+        displayListView.getStyleClass().add(LIVE_FIND_STYLE_CLASS);
+    }
+
     /**
      * Sets the week of attendance in query for display.
      */
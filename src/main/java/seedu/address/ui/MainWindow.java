@@ -1,7 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +20,13 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LiveFind;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -24,6 +35,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final long LIVE_FIND_DELAY_MILLIS = 150;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -35,6 +47,18 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    // Live find runs on a single background thread, after typing has paused for LIVE_FIND_DELAY_MILLIS
+    private final ScheduledExecutorService liveFindExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-find");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingLiveFind;
+    private LiveFind liveFind;
+    private long liveFindGeneration;
+    // Shown over the displayed list while live find results are previewed, and removed to restore that list
+    private DisplayListPanel liveFindPanel;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -116,11 +140,12 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::handleLiveFind);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
     }
@@ -198,6 +223,69 @@ public class MainWindow extends UiPart<Stage> {
         displayListPanelPlaceholder.getChildren().add(displayListPanel.getRoot());
     }
 
+    /**
+     * Previews the persons matching {@code commandText} while a {@code find} command is being typed.
+     * The search runs off the JavaFX application thread once typing pauses, and its results are dropped if
+     * the text has changed again by the time they are ready.
+     *
+     * The preview is shown over the displayed list, which is left as it is, and is removed as soon as the text
+     * is not a valid {@code find} command with prefixes. Index-based commands therefore never run while it is
+     * shown, and always refer to the displayed list.
+     */
+    private void handleLiveFind(String commandText) {
+        cancelLiveFind();
+        if (!commandText.trim().startsWith(FindCommand.COMMAND_WORD)) {
+            hideLiveFindResults();
+            return;
+        }
+        if (liveFind == null) {
+            liveFind = new LiveFind(List.copyOf(logic.getAddressBook().getPersonList()));
+        }
+
+        LiveFind search = liveFind;
+        long generation = liveFindGeneration;
+        pendingLiveFind = liveFindExecutor.schedule(() -> {
+            Optional<List<Person>> matches = search.search(commandText);
+            Platform.runLater(() -> {
+                if (generation == liveFindGeneration) {
+                    matches.ifPresentOrElse(this::showLiveFindResults, this::hideLiveFindResults);
+                }
+            });
+        }, LIVE_FIND_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels any live find that has not yet run, and discards the results of any that is running.
+     */
+    private void cancelLiveFind() {
+        liveFindGeneration++;
+        if (pendingLiveFind != null) {
+            pendingLiveFind.cancel(false);
+        }
+    }
+
+    /**
+     * Shows {@code matches} as a preview over the displayed list.
+     */
+    private void showLiveFindResults(List<Person> matches) {
+        if (liveFindPanel == null) {
+            liveFindPanel = new DisplayListPanel(FXCollections.observableArrayList());
+            liveFindPanel.setLiveFindPreview();
+            displayListPanelPlaceholder.getChildren().add(liveFindPanel.getRoot());
+        }
+        liveFindPanel.setDisplayList(matches);
+    }
+
+    /**
+     * Removes the preview of live find results, if any, showing the displayed list again.
+     */
+    private void hideLiveFindResults() {
+        if (liveFindPanel != null) {
+            displayListPanelPlaceholder.getChildren().remove(liveFindPanel.getRoot());
+            liveFindPanel = null;
+        }
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -254,6 +342,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
+            // the command may change the persons that a live find was searching
+            cancelLiveFind();
+            hideLiveFindResults();
+            liveFind = null;
 
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -0,0 +1,53 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PageTest {
+
+    private static final List<Integer> NUMBERS = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    @Test
+    public void constructor_invalidLimitOrNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Page(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Page(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Page(-1, 1));
+    }
+
+    @Test
+    public void collect_returnsMatchesOnPage() {
+        assertEquals(List.of(2, 4, 6), new Page(3, 1).collect(NUMBERS, n -> n % 2 == 0));
+        assertEquals(List.of(8, 10), new Page(3, 2).collect(NUMBERS, n -> n % 2 == 0));
+        assertTrue(new Page(3, 3).collect(NUMBERS, n -> n % 2 == 0).isEmpty());
+        assertEquals(NUMBERS, new Page(Integer.MAX_VALUE, 1).collect(NUMBERS, n -> true));
+        assertTrue(new Page(Integer.MAX_VALUE, Integer.MAX_VALUE).collect(NUMBERS, n -> true).isEmpty());
+    }
+
+    @Test
+    public void collect_pageFilled_stopsTesting() {
+        List<Integer> tested = new ArrayList<>();
+        new Page(2, 2).collect(NUMBERS, n -> tested.add(n));
+        assertEquals(List.of(1, 2, 3, 4), tested);
+    }
+
+    @Test
+    public void equals() {
+        Page page = new Page(50, 2);
+
+        assertTrue(page.equals(page));
+        assertTrue(page.equals(new Page(50, 2)));
+        assertEquals(page.hashCode(), new Page(50, 2).hashCode());
+
+        assertFalse(page.equals(null));
+        assertFalse(page.equals(2));
+        assertFalse(page.equals(new Page(50, 1)));
+        assertFalse(page.equals(new Page(20, 2)));
+    }
+}
@@ -123,6 +123,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsPartialWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsPartialWordIgnoreCase_validInputs_correctResult() {
+        // Prefix of the first word
+        assertTrue(StringUtil.containsPartialWordIgnoreCase("ABc def", "ab"));
+
+        // Prefix of a later word, after a word shorter than the prefix
+        assertTrue(StringUtil.containsPartialWordIgnoreCase("A Bobby", "bob"));
+
+        // Not at the start of any word
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("ABc def", "Bc"));
+
+        // Longer than every word
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("ABc def", "abcd"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
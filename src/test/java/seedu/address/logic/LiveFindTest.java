@@ -0,0 +1,74 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveFindTest {
+
+    @Test
+    public void search_notFindByPrefix_returnsEmpty() {
+        LiveFind liveFind = new LiveFind(getTypicalPersons());
+        assertEquals(Optional.empty(), liveFind.search("fin"));
+        assertEquals(Optional.empty(), liveFind.search("find"));
+        assertEquals(Optional.empty(), liveFind.search("find alice"));
+        assertEquals(Optional.empty(), liveFind.search("list"));
+    }
+
+    @Test
+    public void search_keywordTypedOut_narrowsResults() {
+        LiveFind liveFind = new LiveFind(getTypicalPersons());
+        assertEquals(Optional.of(List.of(BENSON, DANIEL, ELLE)), liveFind.search("find n/Me"));
+        assertEquals(Optional.of(List.of(BENSON, DANIEL)), liveFind.search("find n/Mei"));
+        assertEquals(Optional.of(List.of(BENSON, DANIEL)), liveFind.search("find n/Meier"));
+    }
+
+    @Test
+    public void search_keywordAddedOrRemoved_searchesAllPersons() {
+        LiveFind liveFind = new LiveFind(getTypicalPersons());
+        assertEquals(Optional.of(List.of(BENSON, DANIEL)), liveFind.search("find n/Mei"));
+        assertEquals(Optional.of(List.of(ALICE, BENSON, DANIEL)), liveFind.search("find n/Mei a"));
+        assertEquals(Optional.of(List.of(ALICE, BENSON, DANIEL, GEORGE)), liveFind.search("find n/Mei a g"));
+        assertEquals(Optional.of(List.of(ALICE)), liveFind.search("find n/a"));
+    }
+
+    @Test
+    public void search_limitAndPage_returnsPageOfMatches() {
+        LiveFind liveFind = new LiveFind(getTypicalPersons());
+        assertEquals(Optional.of(List.of(BENSON, DANIEL)), liveFind.search("find n/Me limit/2"));
+        assertEquals(Optional.of(List.of(ELLE)), liveFind.search("find n/Me limit/2 page/2"));
+
+        // extending the limit searches every match of the previous text, not only the page shown
+        assertEquals(Optional.of(List.of(BENSON)), liveFind.search("find n/Me limit/1"));
+        assertEquals(Optional.of(List.of(BENSON, DANIEL, ELLE)), liveFind.search("find n/Me limit/10"));
+    }
+
+    @Test
+    public void search_narrowing_onlySearchesPreviousResults() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON));
+        LiveFind liveFind = new LiveFind(persons);
+        assertEquals(Optional.of(List.of(BENSON)), liveFind.search("find n/Be"));
+
+        // a person who would match is not searched, as the text only extends the last keyword
+        persons.add(0, new PersonBuilder().withName("Benjamin Lim").build());
+        assertEquals(Optional.of(List.of(BENSON)), liveFind.search("find n/Ben"));
+
+        // starting a new keyword searches every person again
+        assertEquals(3, liveFind.search("find n/Ben a").get().size());
+        assertTrue(liveFind.search("find n/x").get().isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,9 +10,11 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,14 +22,21 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListAssessmentCommand;
+import seedu.address.logic.commands.ListClassCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListStudentCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.CommandJournal;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -35,6 +45,12 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
 
+    /** Commands that only look through the data, as a user would between changes. */
+    private static final List<String> BROWSING_COMMANDS = List.of(
+            ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " alice", ListStudentCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD + " n/ben", ListClassCommand.COMMAND_WORD, ListAssessmentCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD + " ~danial", HelpCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+
     @TempDir
     public Path temporaryFolder;
 
@@ -88,6 +104,47 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_browsingCommands_addressBookNotSaved() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("countedAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json"));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        for (String browsingCommand : BROWSING_COMMANDS) {
+            logic.execute(browsingCommand);
+        }
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void replayJournal_commandsSinceLastSave_reappliedAndSaved() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("journalledAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journalledUserPrefs.json"));
+        CommandJournal journal = new CommandJournal(temporaryFolder.resolve("journalledAddressBook.journal"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, journal);
+        storage.saveAddressBook(model.getAddressBook());
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, storage.readAddressBook().get().getPersonList().size());
+
+        // a fresh start from the saved address book catches up by replaying the journal
+        Model restartedModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        new LogicManager(restartedModel, storage).replayJournal(storage.getAddressBookFilePath());
+        assertEquals(model.getAddressBook(), restartedModel.getAddressBook());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(storage.readJournal().isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -159,4 +216,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts how many times the address book is saved.
+     */
+    private static class JsonAddressBookSaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.person.Phone.NULL_INPUT;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,9 +23,11 @@ import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.StudentIdContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.TutorialContainsKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
 
 public class FindByPrefixCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -119,6 +125,28 @@ public class FindByPrefixCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_keywordsInDifferentFields_personsFoundInListOrder() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindByPrefixCommand command = new FindByPrefixCommand(prepareNamePredicate("Kurz"),
+                preparePhonePredicate("9482427"), prepareEmailPredicate("alice"), prepareAddressPredicate(NULL_INPUT),
+                prepareTagPredicate(NULL_INPUT), prepareIdPredicate(NULL_INPUT),
+                prepareTutorialNamePredicate(NULL_INPUT));
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, CARL, FIONA), model.getFilteredPersonsMultiPredList());
+    }
+
+    @Test
+    public void execute_personReplacedAfterFind_stillListed() {
+        new FindByPrefixCommand(prepareNamePredicate("Kurz"), preparePhonePredicate("9482427"),
+                prepareEmailPredicate("alice"), prepareAddressPredicate(NULL_INPUT), prepareTagPredicate(NULL_INPUT),
+                prepareIdPredicate(NULL_INPUT), prepareTutorialNamePredicate(NULL_INPUT)).execute(model);
+        Student student = new StudentBuilder(CARL).build();
+        model.addStudent(student);
+
+        assertEquals(Arrays.asList(ALICE, student, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
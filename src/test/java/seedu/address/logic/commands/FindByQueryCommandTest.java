@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Page;
+import seedu.address.logic.parser.PersonQuery;
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindByQueryCommand}.
+ */
+public class FindByQueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() throws ParseException {
+        PersonQuery firstQuery = parse("n/Meier OR n/Carl");
+        PersonQuery secondQuery = parse("n/Meier AND n/Carl");
+
+        FindByQueryCommand findFirstCommand = new FindByQueryCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindByQueryCommand(parse("n/Meier OR n/Carl"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(new FindByQueryCommand(secondQuery)));
+
+        // different page -> returns false
+        assertFalse(findFirstCommand.equals(new FindByQueryCommand(firstQuery, new Page(10, 1))));
+    }
+
+    @Test
+    public void execute_query_personsFoundInListOrder() throws ParseException {
+        CommandResult result = new FindByQueryCommand(parse("n/Meier OR n/Carl")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personReplacedAfterFind_stillListed() throws ParseException {
+        new FindByQueryCommand(parse("t/friends AND NOT n/Meier")).execute(model);
+        Student student = new StudentBuilder(ALICE).build();
+        model.addStudent(student);
+
+        assertEquals(Arrays.asList(student), model.getFilteredPersonList());
+    }
+
+    private PersonQuery parse(String query) throws ParseException {
+        return new QueryParser().parse(query);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PAGE_LISTED_OVERVIEW;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -15,10 +17,14 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Page;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +58,11 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different page -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, new Page(10, 1))));
+        assertFalse(new FindCommand(firstPredicate, new Page(10, 1))
+                .equals(new FindCommand(firstPredicate, new Page(10, 2))));
     }
 
     @Test
@@ -74,6 +85,38 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_page_onlyPersonsOnPageListed() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+
+        CommandResult result = new FindCommand(predicate, new Page(2, 1)).execute(model);
+        assertEquals(String.format(MESSAGE_PAGE_LISTED_OVERVIEW, 2, 1), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonsMultiPredList());
+        assertEquals(Arrays.asList(CARL, ELLE), model.getLastShownList());
+
+        result = new FindCommand(predicate, new Page(2, 2)).execute(model);
+        assertEquals(String.format(MESSAGE_PAGE_LISTED_OVERVIEW, 1, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(FIONA), model.getFilteredPersonsMultiPredList());
+    }
+
+    @Test
+    public void execute_deleteAfterPage_resolvesIndexOnPage() throws CommandException {
+        new FindCommand(preparePredicate("Kurz Elle Kunz"), new Page(2, 2)).execute(model);
+        new DeleteCommand(INDEX_FIRST).execute(model);
+
+        assertFalse(model.hasPerson(FIONA));
+        assertTrue(model.hasPerson(CARL));
+    }
+
+    @Test
+    public void execute_personReplacedAfterFind_stillListed() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+        Student student = new StudentBuilder(CARL).build();
+        model.addStudent(student);
+
+        assertEquals(Arrays.asList(student, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -534,7 +534,7 @@ public class MarkAttendanceCommandTest {
         }
     }
 
-    private boolean arrayListComparison(ArrayList<Integer> arr, int[] arr2) {
+    private boolean arrayListComparison(List<Integer> arr, int[] arr2) {
         boolean isSame = true;
         for (int i = 0; i < arr.size(); i++) {
             if (!(arr.get(i) == arr2[i])) {
@@ -62,7 +62,7 @@ public class UnmarkAttendanceCommandTest {
         // Manually marks attendance for FIONA's first week
         validTutorial.generateAttendance();
         validTutorial.getAttendanceList()
-                .getAttendancesByStudentName(FIONA.getName()).get(0).getAttendanceList().set(0, 1);
+                .getAttendancesByStudentName(FIONA.getName()).get(0).markWeek(1);
 
         assertTrue(arrayListComparison(validTutorial.getAttendanceList()
                 .getAttendancesByStudentName(
@@ -92,9 +92,9 @@ public class UnmarkAttendanceCommandTest {
         // Manually marks attendance for entire class first week
         validTutorial.generateAttendance();
         validTutorial.getAttendanceList()
-                .getAttendancesByStudentName(FIONA.getName()).get(0).getAttendanceList().set(1, 1);
+                .getAttendancesByStudentName(FIONA.getName()).get(0).markWeek(2);
         validTutorial.getAttendanceList()
-                .getAttendancesByStudentName(EVE.getName()).get(0).getAttendanceList().set(1, 1);
+                .getAttendancesByStudentName(EVE.getName()).get(0).markWeek(2);
 
         assertTrue(arrayListComparison(validTutorial.getAttendanceList()
                 .getAttendancesByStudentName(
@@ -559,7 +559,7 @@ public class UnmarkAttendanceCommandTest {
         }
     }
 
-    private boolean arrayListComparison(ArrayList<Integer> arr, int[] arr2) {
+    private boolean arrayListComparison(List<Integer> arr, int[] arr2) {
         boolean isSame = true;
         for (int i = 0; i < arr.size(); i++) {
             if (!(arr.get(i) == arr2[i])) {
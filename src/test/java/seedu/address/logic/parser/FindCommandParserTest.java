@@ -8,8 +8,12 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Page;
+import seedu.address.logic.commands.FindByQueryCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameOrStudentIdNearKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,38 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_queryArgs_returnsFindByQueryCommand() throws Exception {
+        FindByQueryCommand expectedFindCommand =
+                new FindByQueryCommand(new QueryParser().parse("tn/T01 AND NOT t/probation"));
+        assertParseSuccess(parser, " tn/T01 AND NOT t/probation ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFindCommand =
+                new FuzzyFindCommand(new NameOrStudentIdNearKeywordsPredicate(Arrays.asList("Alcie", "Bob")));
+        assertParseSuccess(parser, "~Alcie Bob", expectedFindCommand);
+        assertParseSuccess(parser, " ~ Alcie \t Bob ", expectedFindCommand);
+
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pageArgs_returnsPagedCommand() throws Exception {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"), false);
+        assertParseSuccess(parser, " Alice Bob limit/10 page/2", new FindCommand(predicate, new Page(10, 2)));
+        assertParseSuccess(parser, " Alice Bob page/3", new FindCommand(predicate, new Page(Page.DEFAULT_LIMIT, 3)));
+
+        FindByQueryCommand expectedQueryCommand =
+                new FindByQueryCommand(new QueryParser().parse("tn/T01 AND NOT t/probation"), new Page(5, 1));
+        assertParseSuccess(parser, " tn/T01 AND NOT t/probation limit/5", expectedQueryCommand);
+
+        assertParseFailure(parser, " Alice limit/0", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Alice page/two", Page.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " limit/5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalStudents.AARON;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.Page;
 import seedu.address.logic.commands.ListStudentCommand;
 import seedu.address.model.tutorial.TutorialName;
 import seedu.address.testutil.StudentBuilder;
@@ -44,11 +45,20 @@ public class ListStudentCommandParserTest {
         // no field passed
         assertParseSuccess(parser, empty, new ListStudentCommand(null, null));
 
+        // page of students
+        assertParseSuccess(parser, VALID_TUTORIAL_NAME_AARON_DESC + " limit/20 page/3",
+                new ListStudentCommand(null, expectedTutName, new Page(20, 3)));
+        assertParseSuccess(parser, " limit/20", new ListStudentCommand(null, null, new Page(20, 1)));
+        assertParseSuccess(parser, INDEX_FIRST.getOneBased() + " page/2",
+                new ListStudentCommand(expectedIndex, null, new Page(Page.DEFAULT_LIMIT, 2)));
+
     }
 
     @Test
     public void parse_wrongFieldsPresent_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListStudentCommand.MESSAGE_USAGE);
         assertParseFailure(parser, INVALID_NAME_ADAM, expectedMessage);
+        assertParseFailure(parser, INDEX_FIRST.getOneBased() + VALID_TUTORIAL_NAME_AARON_DESC, expectedMessage);
+        assertParseFailure(parser, " limit/0", Page.MESSAGE_CONSTRAINTS);
     }
 }
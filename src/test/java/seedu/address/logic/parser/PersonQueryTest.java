@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class PersonQueryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void evaluate_andWithNot_removesExcludedPersons() throws Exception {
+        assertEquals(Set.of(ALICE), evaluate("t/friends AND NOT n/Meier"));
+    }
+
+    @Test
+    public void evaluate_or_returnsUnion() throws Exception {
+        assertEquals(Set.of(BENSON, CARL, DANIEL), evaluate("n/Meier OR n/Carl"));
+    }
+
+    @Test
+    public void evaluate_topLevelNot_returnsComplement() throws Exception {
+        assertEquals(Set.of(CARL, ELLE, FIONA, GEORGE), evaluate("NOT t/friends"));
+    }
+
+    @Test
+    public void evaluate_nestedQuery_returnsMatches() throws Exception {
+        assertEquals(Set.of(BENSON), evaluate("(n/Meier OR n/Alice) AND t/owesmoney"));
+        assertEquals(Set.of(), evaluate("n/Alice AND n/Carl AND t/friends"));
+    }
+
+    @Test
+    public void evaluate_tagConditions_combinedBitwise() throws Exception {
+        assertEquals(Set.of(BENSON), evaluate("t/friends AND t/owesmoney"));
+        assertEquals(Set.of(ALICE, DANIEL), evaluate("t/friends AND NOT t/owesmoney"));
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL), evaluate("t/friends OR t/owesmoney OR n/Carl"));
+    }
+
+    @Test
+    public void compile_and_estimatesMostSelectiveOperand() throws Exception {
+        PersonQuery.Plan plan = new QueryParser().parse("t/friends AND n/Carl")
+                .compile(addressBook);
+        assertEquals(1, plan.getEstimatedSize());
+    }
+
+    @Test
+    public void test_person_agreesWithEvaluate() throws Exception {
+        for (String query : new String[] {"t/friends AND NOT n/Meier", "n/Meier OR n/Carl", "NOT t/friends",
+                "(n/Meier OR n/Alice) AND t/owesmoney", "t/friends OR t/owesmoney OR p/9482"}) {
+            PersonQuery personQuery = new QueryParser().parse(query);
+            Set<Person> expected = personQuery.compile(addressBook).evaluate();
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(expected.contains(person), personQuery.test(person), query + ": " + person);
+            }
+        }
+    }
+
+    @Test
+    public void hashCode_equalQueries_sameHashCode() throws Exception {
+        String query = "(n/Meier OR n/Alice) AND NOT t/owesmoney";
+        PersonQuery first = new QueryParser().parse(query);
+        PersonQuery second = new QueryParser().parse(query);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    private Set<Person> evaluate(String query) throws Exception {
+        return new QueryParser().parse(query).compile(addressBook).evaluate();
+    }
+}
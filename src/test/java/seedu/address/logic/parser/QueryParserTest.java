@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_INVALID_QUERY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonTokenIndex.Field;
+
+public class QueryParserTest {
+
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    public void isQuery() {
+        assertTrue(QueryParser.isQuery("tn/T01 AND t/probation"));
+        assertTrue(QueryParser.isQuery("NOT(n/alice)"));
+        assertFalse(QueryParser.isQuery("n/Alice Bob"));
+        assertFalse(QueryParser.isQuery("alice and bob"));
+    }
+
+    @Test
+    public void parse_operators_respectsPrecedence() throws Exception {
+        PersonQuery tutorial = term(Field.TUTORIAL_NAME, "T01");
+        PersonQuery tag = term(Field.TAG, "probation");
+        PersonQuery email = term(Field.EMAIL, "alice");
+
+        // NOT binds tighter than AND
+        assertEquals(new PersonQuery.And(List.of(tutorial, tag, new PersonQuery.Not(email))),
+                parser.parse("tn/T01 AND t/probation AND NOT e/alice"));
+
+        // AND binds tighter than OR
+        assertEquals(new PersonQuery.Or(List.of(tutorial, new PersonQuery.And(List.of(tag, email)))),
+                parser.parse("tn/T01 OR t/probation AND e/alice"));
+
+        // brackets group conditions
+        assertEquals(new PersonQuery.And(List.of(new PersonQuery.Or(List.of(tutorial, tag)), email)),
+                parser.parse("(tn/T01 OR t/probation) AND e/alice"));
+    }
+
+    @Test
+    public void parse_adjacentConditionsAndKeywords_combinedWithOr() throws Exception {
+        // keywords after a condition belong to it, and adjacent conditions are combined with OR
+        assertEquals(new PersonQuery.And(List.of(new PersonQuery.Or(List.of(term(Field.NAME, "Hans", "Bo"),
+                        term(Field.STUDENT_ID, "e012"))), term(Field.TAG, "friends"))),
+                parser.parse("(n/Hans Bo id/e012) AND t/friends"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "alice does not start with a prefix"),
+                () -> parser.parse("alice AND t/friends"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "a condition is missing at the end"),
+                () -> parser.parse("t/friends AND"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "a closing bracket is missing"),
+                () -> parser.parse("(t/friends OR n/alice"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "unexpected )"),
+                () -> parser.parse("t/friends) AND n/alice"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "t/ has no keywords"),
+                () -> parser.parse("t/ AND n/alice"));
+    }
+
+    private static PersonQuery term(Field field, String... keywords) {
+        return new PersonQuery.Term(field, Arrays.asList(keywords));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.EVE;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,9 +21,14 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.assessment.Assessment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBitmapIndex;
+import seedu.address.model.person.PersonTokenIndex;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TutorialBuilder;
 
 public class AddressBookTest {
 
@@ -33,6 +39,24 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void constructor_bulkLists_wiresTutorialRosters() {
+        Tutorial tutorial = new TutorialBuilder().withTutorialName("T01").build();
+        AddressBook bulkAddressBook = new AddressBook(Arrays.asList(ALICE, EVE),
+                Collections.singletonList(tutorial), Collections.emptyList());
+
+        assertEquals(Arrays.asList(ALICE, EVE), bulkAddressBook.getPersonList());
+        assertEquals(Arrays.asList(ALICE, EVE), bulkAddressBook.getLastShownList());
+        assertTrue(bulkAddressBook.tutorialHasStudentWithId(EVE.getStudentId(), tutorial.getTutorialName()));
+        assertTrue(tutorial.getAttendanceList().hasStudent(EVE.getStudentId()));
+    }
+
+    @Test
+    public void constructor_bulkListsWithDuplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> new AddressBook(Arrays.asList(ALICE, ALICE),
+                Collections.emptyList(), Collections.emptyList()));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -80,6 +104,25 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPerson_studentEdited_updatesTutorialRoster() {
+        Tutorial tutorial = new TutorialBuilder().withTutorialName("T01").build();
+        addressBook.addTutorial(tutorial);
+        addressBook.addPerson(EVE);
+        assertTrue(addressBook.tutorialHasStudentWithId(EVE.getStudentId(), tutorial.getTutorialName()));
+
+        tutorial.markStudentAttendance(EVE.getStudentId(), 1);
+        Student editedEve = new StudentBuilder(EVE).withPhone("99887766").build();
+        addressBook.setPerson(EVE, editedEve);
+        assertEquals(editedEve, tutorial.getStudentWithId(EVE.getStudentId()));
+        assertTrue(tutorial.getAttendanceList().getAttendancesByStudentName(EVE.getName()).get(0)
+                .isPresentInWeek(1));
+
+        addressBook.removePerson(editedEve);
+        assertFalse(addressBook.tutorialHasStudentWithId(EVE.getStudentId(), tutorial.getTutorialName()));
+        assertFalse(tutorial.getAttendanceList().hasStudent(EVE.getStudentId()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -119,6 +162,16 @@ public class AddressBookTest {
             return filteredPersons;
         }
 
+        @Override
+        public PersonTokenIndex getPersonTokenIndex() {
+            return new PersonTokenIndex();
+        }
+
+        @Override
+        public PersonBitmapIndex getPersonBitmapIndex() {
+            return new PersonBitmapIndex();
+        }
+
         @Override
         public ObservableList<Displayable> getLastShownList() {
             return lastShownList;
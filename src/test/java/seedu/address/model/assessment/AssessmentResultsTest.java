@@ -117,4 +117,16 @@ public class AssessmentResultsTest {
         assertEquals(assessmentResults, expectedAssessmentResults);
     }
 
+    @Test
+    public void set_afterEarlierResultRemoved_setsCorrectStudentResult() {
+        assessmentResults.add(AARON_RESULT_FOR_OP1);
+        assessmentResults.add(BILL_RESULT_FOR_OP2);
+        assessmentResults.removeByStudentId(new NusNetId(VALID_STUDENT_ID_AARON));
+        assertFalse(assessmentResults.hasStudentResultByStudentId(new NusNetId(VALID_STUDENT_ID_AARON)));
+
+        Score newScore = new Score(VALID_SCORE_OP1, new FullMark(VALID_FULL_MARK_OP2));
+        assessmentResults.set(new Name(VALID_NAME_BILL), new NusNetId(VALID_STUDENT_ID_BILL), newScore);
+        assertEquals(1, assessmentResults.asUnmodifiableStudentResultsList().size());
+        assertEquals(newScore, assessmentResults.asUnmodifiableStudentResultsList().get(0).getScore());
+    }
 }
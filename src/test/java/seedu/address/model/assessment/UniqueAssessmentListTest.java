@@ -135,4 +135,13 @@ public class UniqueAssessmentListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> assessmentList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getByName_afterRemoveByName_throwsAssessmentNotFoundException() {
+        assessmentList.add(OP1);
+        AssessmentName op1Name = new AssessmentName(VALID_ASSESSMENT_NAME_OP1);
+        assessmentList.removeByName(op1Name);
+        assertFalse(assessmentList.containsByName(op1Name));
+        assertThrows(AssessmentNotFoundException.class, () -> assessmentList.getByName(op1Name));
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.attendance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.AttendancesTestUtil.VALID_COMMENT_E9999999;
 import static seedu.address.logic.commands.StudentTestUtil.INVALID_NAME_ADAM;
@@ -177,4 +178,22 @@ public class AttendanceListTest {
         assertEquals(attendanceList.viewComment(EVA.getName()), comment);
     }
 
+    @Test
+    public void addStudent_existingStudent_keepsRecord() {
+        attendanceList.addStudent(EVE.getName(), EVE.getStudentId());
+        attendanceList.markAttendanceForStudent(EVE.getStudentId(), 1);
+        attendanceList.addStudent(EVE.getName(), EVE.getStudentId());
+        assertEquals(1, attendanceList.getAttendances().size());
+        assertEquals("Status: Present", attendanceList.getAttendances().get(0).getAttendanceStatusByWeek(1));
+    }
+
+    @Test
+    public void removeStudent_studentInList_removesRecord() {
+        attendanceList.addStudent(EVE.getName(), EVE.getStudentId());
+        attendanceList.addStudent(EVA.getName(), EVA.getStudentId());
+        attendanceList.removeStudent(EVE.getStudentId());
+        assertFalse(attendanceList.hasStudent(EVE.getStudentId()));
+        assertTrue(attendanceList.hasStudent(EVA.getStudentId()));
+        assertEquals(new Comment(""), attendanceList.viewComment(EVE.getName()));
+    }
 }
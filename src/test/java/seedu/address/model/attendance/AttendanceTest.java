@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalAttendances.ELISE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.AttendanceBuilder;
@@ -49,12 +51,38 @@ public class AttendanceTest {
 
     }
 
+    @Test
+    public void markWeek_unmarkWeek_updatesPresence() {
+        Attendance attendance = new AttendanceBuilder(ebby).build();
+        assertEquals(3, attendance.getPresentCount());
+
+        attendance.markWeek(2);
+        assertTrue(attendance.isPresentInWeek(2));
+        assertEquals(4, attendance.getPresentCount());
+
+        attendance.unmarkWeek(1);
+        assertFalse(attendance.isPresentInWeek(1));
+        assertEquals(3, attendance.getPresentCount());
+        assertEquals(Arrays.asList(0, 1, 1, 0, 1), attendance.getAttendanceList());
+    }
+
+    @Test
+    public void markWeek_weekOutOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ebby.markWeek(6));
+    }
+
+    @Test
+    public void getAttendanceList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> ebby.getAttendanceList().set(0, 0));
+    }
+
     @Test
     public void equals() {
 
         // same values -> returns true
         Attendance eliseCopy = new AttendanceBuilder(ELISE).build();
         assertTrue(ELISE.equals(eliseCopy));
+        assertEquals(ELISE.hashCode(), eliseCopy.hashCode());
 
         // same object -> returns true
         assertTrue(ELISE.equals(ELISE));
@@ -93,4 +121,11 @@ public class AttendanceTest {
 
     }
 
+    @Test
+    public void constructor_tooManyWeeks_throwsIllegalArgumentException() {
+        String[] weeks = new String[Attendance.MAX_WEEKS + 1];
+        Arrays.fill(weeks, "1");
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceBuilder().withAttendanceList(weeks).build());
+    }
+
 }
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void editDistance_variousWords_correctResult() {
+        assertEquals(0, BkTree.editDistance("alice", "alice"));
+        assertEquals(1, BkTree.editDistance("alice", "alic"));
+        assertEquals(1, BkTree.editDistance("alice", "alise"));
+        assertEquals(2, BkTree.editDistance("alice", "alcie"));
+        assertEquals(5, BkTree.editDistance("", "alice"));
+    }
+
+    @Test
+    public void forEachWithin_wordsAdded_returnsWordsWithinDistance() {
+        BkTree tree = new BkTree();
+        for (String word : new String[] {"alice", "alicia", "bob", "benson", "alice", "carl"}) {
+            tree.add(word);
+        }
+
+        assertEquals(Set.of("alice"), wordsWithin(tree, "alise", 1));
+        assertEquals(Set.of("alice", "alicia"), wordsWithin(tree, "alic", 2));
+        assertEquals(Set.of("bob"), wordsWithin(tree, "bob", 0));
+        assertTrue(wordsWithin(tree, "zzz", 1).isEmpty());
+    }
+
+    @Test
+    public void add_duplicateWord_notAddedAgain() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("alice"));
+        assertTrue(tree.add("bob"));
+        assertFalse(tree.add("alice"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void forEachWithin_emptyTree_returnsNothing() {
+        assertTrue(wordsWithin(new BkTree(), "alice", 2).isEmpty());
+    }
+
+    private static Set<String> wordsWithin(BkTree tree, String word, int maxDistance) {
+        Set<String> words = new HashSet<>();
+        tree.forEachWithin(word, maxDistance, words::add);
+        return words;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NGramIndexTest {
+
+    private final NGramIndex index = new NGramIndex();
+
+    @Test
+    public void forEachWordContaining_longAndShortSubstrings_returnsWordsContainingThem() {
+        index.add("e0543216");
+        index.add("e0123456");
+        index.add("91234567");
+
+        assertEquals(Set.of("e0543216"), wordsContaining("3216"));
+        assertEquals(Set.of("e0123456", "91234567"), wordsContaining("23456"));
+        assertEquals(Set.of("e0543216", "e0123456"), wordsContaining("e0"));
+        assertTrue(wordsContaining("999").isEmpty());
+    }
+
+    @Test
+    public void remove_wordRemoved_noLongerFound() {
+        index.add("e0543216");
+        index.remove("e0543216");
+
+        assertTrue(wordsContaining("3216").isEmpty());
+        assertTrue(wordsContaining("e").isEmpty());
+    }
+
+    private Set<String> wordsContaining(String substring) {
+        Set<String> words = new HashSet<>();
+        index.forEachWordContaining(substring, words::add);
+        return words;
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,4 +79,26 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void withIndex_keywords_matchesSamePersonsAsTest() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol").withPhone("91234567").withEmail("carol@email.com")
+                .build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(alice);
+        persons.add(carol);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bOB", "Dave"),
+                false);
+        Predicate<Person> indexedPredicate = predicate.withIndex(persons.getTokenIndex());
+        assertTrue(indexedPredicate.test(alice));
+        assertFalse(indexedPredicate.test(carol));
+
+        // partial keywords match the start of words only
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("ca", "ob"), true);
+        indexedPredicate = predicate.withIndex(persons.getTokenIndex());
+        assertFalse(indexedPredicate.test(alice));
+        assertTrue(indexedPredicate.test(carol));
+    }
 }
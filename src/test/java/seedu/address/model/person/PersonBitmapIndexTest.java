@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalStudents.EVE;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBitmapIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonBitmapIndex index = persons.getBitmapIndex();
+
+    @Test
+    public void getPersonsWithTag_tagsInUse_returnsBitmapOfPersons() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        assertEquals(List.of(ALICE, BENSON, DANIEL), index.getPersons(index.getPersonsWithTag(Tag.of("friends"))));
+        assertEquals(3, index.countPersonsWithTag(Tag.of("friends")));
+        assertEquals(1, (int) index.getTagCounts().get(Tag.of("owesmoney")));
+        assertEquals(0, index.countPersonsWithTag(Tag.of("unused")));
+
+        BitSet friendsWhoOweMoney = index.getPersonsWithTag(Tag.of("friends"));
+        friendsWhoOweMoney.and(index.getPersonsWithTag(Tag.of("owesmoney")));
+        assertEquals(List.of(BENSON), index.getPersons(friendsWhoOweMoney));
+    }
+
+    @Test
+    public void getPersonsWithAnyTagPrefix_prefixesIgnoringCase_returnsUnion() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(List.of(BENSON), index.getPersons(index.getPersonsWithAnyTagPrefix(Arrays.asList("OWES"))));
+        assertEquals(List.of(ALICE, BENSON),
+                index.getPersons(index.getPersonsWithAnyTagPrefix(Arrays.asList("fri", "owe"))));
+    }
+
+    @Test
+    public void getStudentsInTutorial_studentAdded_returnsStudent() {
+        persons.add(ALICE);
+        persons.add(EVE);
+
+        assertEquals(List.of(EVE), index.getPersons(index.getStudentsInTutorial(EVE.getTutorialName())));
+        assertEquals(List.of(EVE), index.getPersons(index.getStudentsInAnyTutorialPrefix(
+                Arrays.asList(EVE.getTutorialName().name.toLowerCase()))));
+    }
+
+    @Test
+    public void remove_personRemoved_clearsBitsAndReusesOrdinal() {
+        persons.add(ALICE);
+        persons.add(CARL);
+        int aliceOrdinal = index.getOrdinal(ALICE);
+
+        persons.remove(ALICE);
+        assertEquals(-1, index.getOrdinal(ALICE));
+        assertTrue(index.getPersonsWithTag(Tag.of("friends")).isEmpty());
+
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        persons.setPerson(CARL, editedCarl);
+        assertEquals(aliceOrdinal, index.getOrdinal(editedCarl));
+        assertTrue(index.isInBitmap(editedCarl, index.getPersonsWithTag(Tag.of("friends"))));
+        assertFalse(index.isInBitmap(CARL, index.getPersonsWithTag(Tag.of("friends"))));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -23,6 +24,17 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void withTag_withoutTag_returnsNewPersonAndLeavesOriginalUnchanged() {
+        Person person = new PersonBuilder().withTags("friends").build();
+        Person tagged = person.withTag(VALID_TAG_HUSBAND);
+
+        assertEquals(new PersonBuilder().withTags("friends", VALID_TAG_HUSBAND).build(), tagged);
+        assertEquals(new PersonBuilder().withTags("friends").build(), person);
+        assertEquals(person, tagged.withoutTag(VALID_TAG_HUSBAND));
+        assertEquals(person.hashCode(), tagged.withoutTag(VALID_TAG_HUSBAND).hashCode());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalStudents.EVE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonTokenIndex.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonTokenIndex index = persons.getTokenIndex();
+
+    @Test
+    public void getPersonsWithAnyWord_nullField_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPersonsWithAnyWord(null, Collections.emptyList()));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_wholeWordsIgnoringCase_returnsUnionOfMatches() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("mEIER")));
+        assertEquals(Set.of(ALICE, DANIEL),
+                index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("alice", "Daniel")));
+
+        // partial words do not match
+        assertTrue(index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("Mei")).isEmpty());
+
+        // words are kept per field
+        assertTrue(index.getPersonsWithAnyWord(Field.ADDRESS, Arrays.asList("Meier")).isEmpty());
+        assertEquals(Set.of(BENSON), index.getPersonsWithAnyWord(Field.TAG, Arrays.asList("OwesMoney")));
+    }
+
+    @Test
+    public void getPersonsWithAnyWordPrefix_prefixesIgnoringCase_returnsUnionOfMatches() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), index.getPersonsWithAnyWordPrefix(Field.NAME, Arrays.asList("mei")));
+        assertEquals(Set.of(ALICE, BENSON),
+                index.getPersonsWithAnyWordPrefix(Field.NAME, Arrays.asList("PAUL", "Ben")));
+        assertEquals(Set.of(BENSON), index.getPersonsWithAnyWordPrefix(Field.PHONE, Arrays.asList("9876")));
+
+        // not at the start of a word
+        assertTrue(index.getPersonsWithAnyWordPrefix(Field.NAME, Arrays.asList("eier")).isEmpty());
+
+        // empty prefixes match nothing
+        assertTrue(index.getPersonsWithAnyWordPrefix(Field.NAME, Arrays.asList(" ")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWordNear_misspeltKeywords_returnsPersonsInUse() {
+        persons.add(ALICE);
+        persons.add(EVE);
+
+        assertEquals(Set.of(ALICE), index.getPersonsWithAnyWordNear(Field.NAME, Arrays.asList("Alise"), 1));
+        assertEquals(Set.of(EVE), index.getPersonsWithAnyWordNear(Field.STUDENT_ID,
+                Arrays.asList(EVE.getStudentId().id.substring(1)), 1));
+
+        // words of removed persons are no longer matched
+        persons.remove(ALICE);
+        assertTrue(index.getPersonsWithAnyWordNear(Field.NAME, Arrays.asList("Alise"), 1).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () ->
+                index.getPersonsWithAnyWordNear(Field.ADDRESS, Arrays.asList("street"), 1));
+    }
+
+    @Test
+    public void getPersonsWithAnyWordNear_manyRenames_wordsNoLongerInUseDropped() {
+        Person person = ALICE;
+        persons.add(person);
+        for (int i = 0; i < 500; i++) {
+            Person renamed = new PersonBuilder(ALICE).withName("Alice Number" + i).build();
+            persons.setPerson(person, renamed);
+            person = renamed;
+        }
+
+        // the tree has been rebuilt along the way instead of holding every name ever used
+        assertTrue(index.getFuzzyWordCount(Field.NAME) < 200);
+        assertEquals(Set.of(person), index.getPersonsWithAnyWordNear(Field.NAME, Arrays.asList("Numbr499"), 1));
+        assertTrue(index.getPersonsWithAnyWordNear(Field.NAME, Arrays.asList("Numbr100"), 1).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWordContaining_partsOfPhonesAndIds_returnsMatches() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(EVE);
+
+        // ALICE 94351253, BENSON 98765432, EVE 91234566
+        assertEquals(Set.of(ALICE), index.getPersonsWithAnyWordContaining(Field.PHONE, Arrays.asList("1253")));
+        assertEquals(Set.of(BENSON, EVE),
+                index.getPersonsWithAnyWordContaining(Field.PHONE, Arrays.asList("5432", "4566")));
+        assertEquals(Set.of(ALICE, BENSON, EVE),
+                index.getPersonsWithAnyWordContaining(Field.PHONE, Arrays.asList("9")));
+        assertEquals(Set.of(EVE), index.getPersonsWithAnyWordContaining(Field.STUDENT_ID,
+                Arrays.asList(EVE.getStudentId().id.substring(4).toUpperCase())));
+
+        // parts of numbers no longer in use are not matched
+        persons.remove(ALICE);
+        assertTrue(index.getPersonsWithAnyWordContaining(Field.PHONE, Arrays.asList("1253")).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () ->
+                index.getPersonsWithAnyWordContaining(Field.NAME, Arrays.asList("lic")));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_studentFields_returnsStudent() {
+        persons.add(ALICE);
+        persons.add(EVE);
+
+        assertEquals(Set.of(EVE),
+                index.getPersonsWithAnyWord(Field.STUDENT_ID, Arrays.asList(EVE.getStudentId().id)));
+        assertEquals(Set.of(EVE),
+                index.getPersonsWithAnyWord(Field.TUTORIAL_NAME, Arrays.asList(EVE.getTutorialName().name)));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_afterEditAndRemove_reflectsList() {
+        persons.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        persons.setPerson(ALICE, renamedAlice);
+
+        assertTrue(index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("Alice")).isEmpty());
+        assertEquals(Set.of(renamedAlice), index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("alicia")));
+
+        persons.remove(renamedAlice);
+        assertTrue(index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("Pauline")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_afterSetPersons_reflectsList() {
+        persons.add(ALICE);
+        persons.setPersons(Arrays.asList(BENSON));
+
+        assertTrue(index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("Alice")).isEmpty());
+        assertEquals(Set.of(BENSON), index.getPersonsWithAnyWord(Field.NAME, Arrays.asList("Benson")));
+    }
+}
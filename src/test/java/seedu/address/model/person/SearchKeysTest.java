@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalStudents.EVE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonTokenIndex.Field;
+
+public class SearchKeysTest {
+
+    @Test
+    public void getSearchKeys_calledTwice_returnsSameKeys() {
+        assertSame(BENSON.getSearchKeys(), BENSON.getSearchKeys());
+    }
+
+    @Test
+    public void foldKeywords_blankAndMixedCaseKeywords_returnsTrimmedLowerCaseKeywords() {
+        assertEquals(Arrays.asList("alice", "bob"),
+                Arrays.asList(SearchKeys.foldKeywords(Arrays.asList(" ALice", "", "Bob "))));
+    }
+
+    @Test
+    public void hasAnyWord_foldedWords_matchesWholeWordsOfFieldOnly() {
+        SearchKeys keys = BENSON.getSearchKeys();
+        assertTrue(keys.hasAnyWord(Field.NAME, new String[] {"carl", "meier"}));
+        assertFalse(keys.hasAnyWord(Field.NAME, new String[] {"mei"}));
+        assertTrue(keys.hasAnyWord(Field.TAG, new String[] {"owesmoney"}));
+        assertFalse(keys.hasAnyWord(Field.ADDRESS, new String[] {"meier"}));
+    }
+
+    @Test
+    public void hasAnyWordWithPrefix_foldedPrefixes_matchesStartOfWords() {
+        SearchKeys keys = BENSON.getSearchKeys();
+        assertTrue(keys.hasAnyWordWithPrefix(Field.NAME, new String[] {"mei"}));
+        assertFalse(keys.hasAnyWordWithPrefix(Field.NAME, new String[] {"eier"}));
+
+        // student fields are only present for students
+        assertFalse(keys.hasAnyWordWithPrefix(Field.STUDENT_ID, new String[] {"e"}));
+        assertTrue(EVE.getSearchKeys().hasAnyWordWithPrefix(Field.STUDENT_ID,
+                new String[] {SearchKeys.fold(EVE.getStudentId().id)}));
+    }
+}
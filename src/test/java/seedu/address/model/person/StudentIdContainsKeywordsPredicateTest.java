@@ -49,6 +49,10 @@ public class StudentIdContainsKeywordsPredicateTest {
         // Multiple keywords
         predicate = new StudentIdContainsKeywordsPredicate(Arrays.asList("e0543", "e0123456"));
         assertTrue(predicate.test(ALEX));
+
+        // Last digits
+        predicate = new StudentIdContainsKeywordsPredicate(Collections.singletonList("3216"));
+        assertTrue(predicate.test(ALEX));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalStudents.ALEX;
@@ -11,6 +12,15 @@ import seedu.address.testutil.StudentBuilder;
 
 public class StudentTest {
 
+    @Test
+    public void withoutTag_student_returnsStudentWithSameDetails() {
+        Student untagged = ALEX.withoutTag("student");
+
+        assertEquals(new StudentBuilder(ALEX).withTags().build(), untagged);
+        assertTrue(ALEX.hasStudentTag());
+        assertFalse(untagged.hasStudentTag());
+    }
+
     @Test
     public void equals() {
         Student alex = new StudentBuilder(ALEX).build();
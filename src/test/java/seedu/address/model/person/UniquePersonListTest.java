@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalStudents.ALEX;
 import static seedu.address.testutil.TypicalStudents.CHARLIE;
+import static seedu.address.testutil.TypicalStudents.DENSON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -165,6 +166,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsExistingLookups() {
+        uniquePersonList.add(ALICE);
+        List<Person> listWithDuplicatePersons = Arrays.asList(BOB, BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.hasPersonWithName(ALICE.getName()));
+        assertTrue(uniquePersonList.hasPersonWithEmail(ALICE.getEmail()));
+        assertFalse(uniquePersonList.hasPersonWithName(BOB.getName()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -188,4 +199,35 @@ public class UniquePersonListTest {
         assertThrows(StudentNotFoundException.class, () -> uniquePersonList.getTutorialNameOfStudent(BOB.getName()));
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getTutorialNameOfStudent(CHARLIE.getName()));
     }
+
+    @Test
+    public void hasPersonWithPhone_sharedPhoneAfterRemove_returnsTrue() {
+        uniquePersonList.add(CHARLIE);
+        uniquePersonList.add(DENSON);
+        uniquePersonList.remove(CHARLIE);
+        assertTrue(uniquePersonList.hasPersonWithPhone(DENSON.getPhone()));
+        assertFalse(uniquePersonList.hasPersonWithEmail(CHARLIE.getEmail()));
+        uniquePersonList.remove(DENSON);
+        assertFalse(uniquePersonList.hasPersonWithPhone(DENSON.getPhone()));
+    }
+
+    @Test
+    public void getStudentWithId_afterSetPerson_returnsEditedStudent() {
+        Person alexAsPerson = new PersonBuilder(ALEX).build();
+        uniquePersonList.add(alexAsPerson);
+        assertFalse(uniquePersonList.hasStudentWithId(ALEX.getStudentId()));
+        uniquePersonList.setPerson(alexAsPerson, ALEX);
+        assertEquals(ALEX, uniquePersonList.getStudentWithId(ALEX.getStudentId()));
+        uniquePersonList.setPerson(ALEX, alexAsPerson);
+        assertThrows(StudentNotFoundException.class, () -> uniquePersonList.getStudentWithId(ALEX.getStudentId()));
+    }
+
+    @Test
+    public void getPersonWithName_afterSetPersons_returnsPersonFromNewList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(BOB, uniquePersonList.getPersonWithName(BOB.getName()));
+        assertFalse(uniquePersonList.hasPersonWithName(ALICE.getName()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonWithName(ALICE.getName()));
+    }
 }
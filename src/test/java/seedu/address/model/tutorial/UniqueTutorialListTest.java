@@ -154,9 +154,36 @@ public class UniqueTutorialListTest {
                 .setTutorials(listWithDuplicateTutorials));
     }
 
+    @Test
+    public void setTutorials_listWithDuplicateTutorials_keepsExistingTutorials() {
+        uniqueTutorialList.add(T02);
+        List<Tutorial> listWithDuplicateTutorials = Arrays.asList(T01, T01);
+        assertThrows(DuplicateTutorialException.class, () -> uniqueTutorialList
+                .setTutorials(listWithDuplicateTutorials));
+        assertTrue(uniqueTutorialList.containsTutorialWithName(T02.getTutorialName()));
+        assertFalse(uniqueTutorialList.containsTutorialWithName(T01.getTutorialName()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueTutorialList
                 .asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getTutorialWithName_afterSetTutorialWithDifferentIdentity_returnsEditedTutorial() {
+        uniqueTutorialList.add(T01);
+        uniqueTutorialList.setTutorial(T01, T02);
+        assertEquals(T02, uniqueTutorialList.getTutorialWithName(T02.getTutorialName()));
+        assertFalse(uniqueTutorialList.containsTutorialWithName(T01.getTutorialName()));
+        assertThrows(TutorialNotFoundException.class, () -> uniqueTutorialList
+                .getTutorialWithName(T01.getTutorialName()));
+    }
+
+    @Test
+    public void containsTutorialWithName_afterRemove_returnsFalse() {
+        uniqueTutorialList.add(T01);
+        uniqueTutorialList.remove(T01);
+        assertFalse(uniqueTutorialList.containsTutorialWithName(T01.getTutorialName()));
+    }
 }
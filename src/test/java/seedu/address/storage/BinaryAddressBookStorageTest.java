@@ -0,0 +1,214 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssessments.LAB_1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalStudents.ALEX;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assessment.AssessmentResults;
+import seedu.address.model.assessment.AssessmentResultsList;
+import seedu.address.model.assessment.Score;
+import seedu.address.model.assessment.StudentResult;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.attendance.Comment;
+import seedu.address.model.person.Person;
+import seedu.address.model.tutorial.Day;
+import seedu.address.model.tutorial.Time;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.tutorial.Venue;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormatAddressBook.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("futureVersionAddressBook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookFormat.MAGIC);
+        out.writeByte(BinaryAddressBookFormat.VERSION + 1);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncatedAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(saved, saved.length / 2));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_stringLongerThanFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("hugeStringAddressBook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookFormat.MAGIC);
+        out.writeByte(BinaryAddressBookFormat.VERSION);
+        // one person, whose name is a new string of Integer.MAX_VALUE bytes
+        out.writeByte(1);
+        out.writeByte(0);
+        out.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTutorialList(), readBack.getTutorialList());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_attendanceAndResults_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getAddressBookWithAttendanceAndResults();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertReadBackEqual(original, readBack);
+    }
+
+    @Test
+    public void snapshotAddressBook_modifiedAfterSnapshot_savesDataAsOfSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        AddressBookSnapshot snapshot = binaryAddressBookStorage.snapshotAddressBook(original, filePath);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        snapshot.save();
+        assertEquals(expected, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        AddressBook original = getAddressBookWithAttendanceAndResults();
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+
+        // Converting in either direction keeps every field
+        assertReadBackEqual(original, new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        assertReadBackEqual(original, new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(new AddressBook(),
+                        null));
+    }
+
+    /**
+     * Returns the typical address book with {@code ALEX} in a tutorial, with attendance and a result recorded.
+     */
+    private static AddressBook getAddressBookWithAttendanceAndResults() {
+        List<Person> persons = getTypicalPersons();
+        persons.add(ALEX);
+
+        ArrayList<Attendance> attendances = new ArrayList<>();
+        attendances.add(new Attendance(0b1011L, 13, ALEX.getName(), ALEX.getStudentId(), new Comment("Late")));
+        AssessmentResults results = new AssessmentResults(LAB_1.getAssessmentName());
+        results.add(new StudentResult(ALEX.getName(), ALEX.getStudentId(), new Score("25", LAB_1.getFullMark())));
+        AssessmentResultsList resultsList = new AssessmentResultsList(ALEX.getTutorialName());
+        resultsList.add(results);
+        Tutorial tutorial = new Tutorial(ALEX.getTutorialName(), new Venue("COM1-0210"), new Day("Tuesday"),
+                new Time("09:00"), 13, new AttendanceList(attendances, 13), resultsList);
+
+        return new AddressBook(persons, List.of(tutorial), List.of(LAB_1));
+    }
+
+    private static void assertReadBackEqual(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getAssessmentList(), actual.getAssessmentList());
+        assertEquals(expected.getTutorialList(), actual.getTutorialList());
+        for (int i = 0; i < expected.getTutorialList().size(); i++) {
+            Tutorial expectedTutorial = expected.getTutorialList().get(i);
+            Tutorial actualTutorial = actual.getTutorialList().get(i);
+            assertEquals(expectedTutorial.getAttendanceList().getAttendances(),
+                    actualTutorial.getAttendanceList().getAttendances());
+            assertEquals(expectedTutorial.getUnmodifiableAssessmentResultsList(),
+                    actualTutorial.getUnmodifiableAssessmentResultsList());
+        }
+    }
+}
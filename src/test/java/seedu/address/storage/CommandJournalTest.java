@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getJournalFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.journal"),
+                CommandJournal.getJournalFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.journal"), CommandJournal.getJournalFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readCommands_missingFile_emptyResult() throws Exception {
+        assertTrue(new CommandJournal(testFolder.resolve("missing.journal")).readCommands().isEmpty());
+    }
+
+    @Test
+    public void append_mutatingCommands_readBackInOrder() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("sub").resolve("ab.journal"));
+        journal.append("add n/Amy", true);
+        journal.append("delete 1", true);
+        journal.close();
+
+        assertEquals(List.of("add n/Amy", "delete 1"), journal.readCommands());
+        assertEquals(2, journal.getRecordCount());
+
+        // appending after closing reopens the journal
+        journal.append("clear", true);
+        assertEquals(List.of("add n/Amy", "delete 1", "clear"), journal.readCommands());
+    }
+
+    @Test
+    public void append_readOnlyCommands_writtenOnlyBeforeNextMutatingCommand() throws Exception {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("ab.journal"));
+        journal.append("find n/Amy", false);
+        journal.append("list", false);
+        assertTrue(journal.readCommands().isEmpty());
+        assertEquals(0, journal.getRecordCount());
+
+        journal.append("delete 1", true);
+        journal.append("list", false);
+        assertEquals(List.of("find n/Amy", "list", "delete 1"), journal.readCommands());
+        assertEquals(1, journal.getRecordCount());
+    }
+
+    @Test
+    public void append_multiLineCommand_throwsIllegalArgumentException() {
+        CommandJournal journal = new CommandJournal(testFolder.resolve("ab.journal"));
+        assertThrows(IllegalArgumentException.class, () -> journal.append("add n/Amy\ndelete 1", true));
+    }
+
+    @Test
+    public void readCommands_partlyWrittenLastLine_leftOut() throws Exception {
+        Path filePath = testFolder.resolve("ab.journal");
+        Files.writeString(filePath, "add n/Amy\ndelete 1\nedit 1 n/Bo");
+        assertEquals(List.of("add n/Amy", "delete 1"), new CommandJournal(filePath).readCommands());
+    }
+
+    @Test
+    public void clear_emptiesJournal() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("ab.json");
+        Files.writeString(addressBookFilePath, "{}");
+        CommandJournal journal = new CommandJournal(testFolder.resolve("ab.journal"));
+        journal.append("add n/Amy", true);
+        journal.append("list", false);
+        journal.clear(addressBookFilePath);
+
+        assertTrue(journal.readCommands().isEmpty());
+        assertEquals(0, journal.getRecordCount());
+
+        // held back commands are dropped too
+        journal.append("delete 1", true);
+        assertEquals(List.of("delete 1"), journal.readCommands());
+    }
+
+    @Test
+    public void isBasedOn_dataFileSavedAfterClear_false() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("ab.json");
+        Files.writeString(addressBookFilePath, "{}");
+        CommandJournal journal = new CommandJournal(testFolder.resolve("ab.journal"));
+
+        // a journal that has never been cleared applies to any data file
+        journal.append("add n/Amy", true);
+        assertTrue(journal.isBasedOn(addressBookFilePath));
+
+        journal.clear(addressBookFilePath);
+        journal.append("delete 1", true);
+        assertTrue(journal.isBasedOn(addressBookFilePath));
+
+        // the data file is saved again, but the app stops before the journal is cleared
+        Files.writeString(addressBookFilePath, "{ \"persons\": [] }");
+        assertFalse(journal.isBasedOn(addressBookFilePath));
+        Files.delete(addressBookFilePath);
+        assertFalse(journal.isBasedOn(addressBookFilePath));
+    }
+}
@@ -101,7 +101,7 @@ public class JsonAdaptedAttendanceTest {
         assertThrows(IllegalValueException.class, expectedMessage, attendance::toModelType);
     }
 
-    private static ArrayList<String> convertIntListToStringList(ArrayList<Integer> arr) {
+    private static ArrayList<String> convertIntListToStringList(List<Integer> arr) {
         List<String> strings = arr.stream()
                 .map(x -> String.valueOf(x))
                 .collect(Collectors.toList());
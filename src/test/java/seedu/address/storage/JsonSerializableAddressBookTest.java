@@ -5,9 +5,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -20,6 +23,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -29,6 +35,56 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::readModelType).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook::readModelType));
+    }
+
+    @Test
+    public void readModelType_tutorialsBeforeAssessments_success() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path file = testFolder.resolve("tutorialsFirst.json");
+        JsonUtil.writeJsonFile(file, generator -> {
+            generator.writeStartObject();
+            generator.writeFieldName("tutorials");
+            JsonUtil.writeValue(generator, typicalPersonsAddressBook.getTutorialList().stream()
+                    .map(JsonAdaptedTutorial::new).collect(Collectors.toList()));
+            generator.writeFieldName("persons");
+            JsonUtil.writeValue(generator, typicalPersonsAddressBook.getPersonList().stream()
+                    .map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+            generator.writeFieldName("assessments");
+            JsonUtil.writeValue(generator, typicalPersonsAddressBook.getAssessmentList().stream()
+                    .map(JsonAdaptedAssessment::new).collect(Collectors.toList()));
+            generator.writeEndObject();
+        });
+
+        assertEquals(typicalPersonsAddressBook,
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook::readModelType).get());
+    }
+
+    @Test
+    public void write_typicalAddressBook_readBackEqual() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path file = testFolder.resolve("written.json");
+        JsonUtil.writeJsonFile(file, generator -> JsonSerializableAddressBook.write(generator,
+                typicalPersonsAddressBook.getPersonList(), typicalPersonsAddressBook.getAssessmentList(),
+                typicalPersonsAddressBook.getTutorialList().stream()
+                        .map(JsonAdaptedTutorial::new).collect(Collectors.toList())));
+
+        assertEquals(typicalPersonsAddressBook,
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook::readModelType).get());
+        assertEquals(typicalPersonsAddressBook,
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
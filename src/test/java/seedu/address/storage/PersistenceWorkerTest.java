@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PersistenceWorkerTest {
+
+    // Long enough that nothing runs before the test flushes the worker
+    private static final long NEVER_DELAY_MILLIS = 60 * 60 * 1000;
+
+    private final PersistenceWorker worker = new PersistenceWorker(NEVER_DELAY_MILLIS);
+    private final List<String> ran = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        worker.close();
+    }
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersistenceWorker(-1));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> worker.submit(null));
+        assertThrows(NullPointerException.class, () -> worker.submitSnapshot(null));
+    }
+
+    @Test
+    public void flush_submittedTasks_runInOrder() throws Exception {
+        worker.submit(() -> ran.add("a"));
+        worker.submit(() -> ran.add("b"));
+        assertTrue(ran.isEmpty());
+
+        worker.flush();
+        assertEquals(List.of("a", "b"), ran);
+    }
+
+    @Test
+    public void submitSnapshot_earlierSnapshotPending_earlierSnapshotDropped() throws Exception {
+        worker.submitSnapshot(() -> ran.add("snapshot 1"));
+        worker.submit(() -> ran.add("append"));
+        worker.submitSnapshot(() -> ran.add("snapshot 2"));
+
+        worker.flush();
+        assertEquals(List.of("append", "snapshot 2"), ran);
+    }
+
+    @Test
+    public void flush_taskFailed_failureReportedOnce() throws Exception {
+        worker.submit(() -> {
+            throw new IOException("disk full");
+        });
+        worker.submit(() -> ran.add("after failure"));
+
+        assertThrows(IOException.class, "disk full", worker::flush);
+        assertEquals(List.of("after failure"), ran);
+        worker.checkFailure();
+    }
+
+    @Test
+    public void setFailureHandler_taskFailed_failurePassedToHandler() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        worker.setFailureHandler(failures::add);
+        IOException failure = new IOException("disk full");
+        worker.submit(() -> {
+            throw failure;
+        });
+
+        assertThrows(IOException.class, "disk full", worker::flush);
+        assertEquals(List.of(failure), failures);
+
+        // the failure has been reported, so it is not reported again
+        worker.checkFailure();
+        worker.flush();
+    }
+
+    @Test
+    public void submit_noFlush_runsAfterDelay() throws Exception {
+        PersistenceWorker shortDelayWorker = new PersistenceWorker(0);
+        CountDownLatch hasRun = new CountDownLatch(1);
+        shortDelayWorker.submit(hasRun::countDown);
+        assertTrue(hasRun.await(5, TimeUnit.SECONDS));
+        shortDelayWorker.close();
+    }
+}
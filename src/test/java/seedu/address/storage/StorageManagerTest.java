@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +67,76 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveCommand_withJournal_appendsUntilCompacted() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        CommandJournal journal = new CommandJournal(getTempFilePath("ab.journal"));
+        StorageManager journalledStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        journalledStorage.saveCommand("list", false, addressBook);
+        journalledStorage.saveCommand("delete 1", true, addressBook);
+        assertEquals(List.of("list", "delete 1"), journalledStorage.readJournal());
+        assertFalse(journalledStorage.readAddressBook().isPresent());
+
+        journalledStorage.compactJournal(addressBook);
+        assertTrue(journalledStorage.readJournal().isEmpty());
+        assertEquals(addressBook, new AddressBook(journalledStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readJournal_dataFileSavedAfterJournalCleared_noCommands() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        CommandJournal journal = new CommandJournal(getTempFilePath("ab.journal"));
+        StorageManager journalledStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+        journalledStorage.compactJournal(new AddressBook());
+        journalledStorage.saveCommand("clear", true, new AddressBook());
+        assertEquals(List.of("clear"), journalledStorage.readJournal());
+
+        // the app stops after saving the data file but before clearing the journal
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(journalledStorage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void saveCommand_journalAppendFails_savesInFullInstead() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        // the journal cannot be opened, as its path is taken by a directory
+        Path journalFilePath = Files.createDirectory(getTempFilePath("ab.journal"));
+        PersistenceWorker worker = new PersistenceWorker(PersistenceWorker.DEFAULT_DELAY_MILLIS);
+        StorageManager journalledStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new CommandJournal(journalFilePath), worker);
+        List<IOException> failures = new ArrayList<>();
+        journalledStorage.setFailureHandler(failures::add);
+
+        AddressBook addressBook = new AddressBook();
+        journalledStorage.saveCommand("clear", true, addressBook);
+        assertThrows(IOException.class, worker::flush);
+        assertEquals(1, failures.size());
+        assertFalse(journalledStorage.readAddressBook().isPresent());
+
+        // the next command saves the address book in full, including the command that was not journalled
+        addressBook = getTypicalAddressBook();
+        journalledStorage.saveCommand("list", false, addressBook);
+        assertEquals(addressBook, new AddressBook(journalledStorage.readAddressBook().get()));
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        journalledStorage.saveCommand("delete 1", true, addressBook);
+        journalledStorage.close();
+        assertEquals(addressBook, new AddressBook(journalledStorage.readAddressBook().get()));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void saveCommand_withoutJournal_savesAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveCommand("delete 1", true, addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(storageManager.readJournal().isEmpty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.model.attendance.Attendance;
@@ -16,7 +17,7 @@ public class AttendanceBuilder {
     public static final String DEFAULT_NUSNETID = "e0123456";
     public static final String DEFAULT_COMMENT = "Has not handed in work";
 
-    private ArrayList<Integer> attendanceList;
+    private List<Integer> attendanceList;
     private Name name;
     private NusNetId nusNetId;
     private Comment comment;
@@ -35,7 +36,7 @@ public class AttendanceBuilder {
      * Creates a {@code AttendanceBuilder} with the {@code attendance}'s details.
      */
     public AttendanceBuilder(Attendance attendance) {
-        attendanceList = attendance.getAttendanceList();
+        attendanceList = new ArrayList<>(attendance.getAttendanceList());
         name = attendance.getStudentName();
         nusNetId = attendance.getStudentId();
         comment = attendance.getComment();